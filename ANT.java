@@ -5,7 +5,11 @@
  * This class defines an ANT object for use in Ant Colony Optimization on the SMTWTP.
  * Each ANT object can hold workflow, represented as an array of integers,
  * a score of that workflow of jobs, represented as a double, an integer number of
- * jobs in the problem instance, and an array of the jobs, represented as an array of jobs.
+ * jobs in the problem instance, and the packed (processing time,
+ * due date, weight) array of the jobs from the SMTWTP instance.
+ * 
+ * Each ANT also owns the scratch arrays used while its tour is constructed, so that
+ * building a tour does not allocate.
  * 
  */
 
@@ -15,7 +19,15 @@ public class ANT {
 	int workflow_score;
 	
 	int num_jobs;
-	JOB[] jobs;
+	int[] job_data;
+	
+	//jobs not yet in the tour, the slot of each job in that array, and the
+	//running sums of their selection values
+	int[] unscheduled_jobs;
+	int[] slot_of_job;
+	double[] cumulative_values;
+	//the jobs already in the tour in increasing order, kept for tree sampling
+	int[] scheduled_jobs;
 	
 	/* Purpose: Initialize an ANT object
 	 * Parameters: The number of jobs and a given SMTWTP object.
@@ -24,9 +36,13 @@ public class ANT {
 	public ANT(int num_jobs, SMTWTP smtwtp) {
 		
 		this.num_jobs = num_jobs;
-		this.jobs = smtwtp.getJobs();
+		this.job_data = smtwtp.getJob_data();
 		
 		this.workflow = new int[num_jobs];
+		this.unscheduled_jobs = new int[num_jobs];
+		this.slot_of_job = new int[num_jobs];
+		this.cumulative_values = new double[num_jobs];
+		this.scheduled_jobs = new int[num_jobs];
 		this.workflow_score = Integer.MAX_VALUE;
 	}
 	
@@ -36,25 +52,17 @@ public class ANT {
 	 */
 	public void scoreWorkflow() {
 		
-		int score = 0;
-		int time_so_far = 0;
-		
-		int curr_job;
-		int finish_difference;
+		this.workflow_score = SMTWTP.scoreWorkflow(workflow, num_jobs, job_data);
+	}
+	
+	/* Purpose: Score the ANT's workflow and improve it with a local search until it
+	 * is a local optimum
+	 * Parameters: The LOCAL_SEARCH to use
+	 * Return: None
+	 */
+	public void localSearch(LOCAL_SEARCH local_search) {
 		
-		for (int i = 0; i < num_jobs; i++) {
-			
-			curr_job = workflow[i];
-			
-			finish_difference = (time_so_far + jobs[curr_job].getProcessing_time()) - jobs[curr_job].getDue_date();
-			
-			if (finish_difference > 0) {
-				score += (finish_difference * jobs[curr_job].getWeight());
-			}
-			
-			time_so_far += jobs[curr_job].getProcessing_time();
-		}
-		this.workflow_score = score;
+		this.workflow_score = local_search.improve(workflow);
 	}
 	
 	/*
@@ -69,6 +77,22 @@ public class ANT {
 		this.workflow = workflow.clone();
 	}
 
+	public int[] getUnscheduled_jobs() {
+		return unscheduled_jobs;
+	}
+
+	public int[] getSlot_of_job() {
+		return slot_of_job;
+	}
+
+	public double[] getCumulative_values() {
+		return cumulative_values;
+	}
+
+	public int[] getScheduled_jobs() {
+		return scheduled_jobs;
+	}
+
 	public int getWorkflow_score() {
 		return workflow_score;
 	}
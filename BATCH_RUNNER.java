@@ -0,0 +1,329 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class runs a whole batch of experiments inside one JVM, instead of starting
+ * a new JVM for every run. It reads a manifest of instances, algorithms, and
+ * repetitions, solves every run on a pool of worker threads through
+ * SMTWTP_HYBRID.solve, and writes one CSV row per run with its scores, best
+ * workflow, wall clock time, and number of workflow evaluations. Rows are written
+ * in manifest order as soon as each run and every run before it has finished.
+ *
+ * Usage: java BATCH_RUNNER manifest output.csv [--threads n] [--time-limit seconds]
+ * 	[--cache entries] [--seed n] [--best-known file]
+ *
+ * Each manifest line is
+ * 	instance algorithm repetitions num_iterations max_generations
+ * where algorithm is eas, ga, or both, like SMTWTP_HYBRID. The instance is either a
+ * problem file such as 40.1.txt, an OR-Library file with the 1-based number of one
+ * of its instances such as wt40.txt:7, or wt40.txt:* for every instance of the file.
+ * Blank lines and lines starting with # are skipped. With a time limit, every run
+ * returns its best so far once that many seconds have passed. With a cache, the GA
+ * of every run looks its offspring up in a score cache of that many entries, and the
+ * CSV has the hit rate of the cache. With a seed, the random stream of every run is
+ * split off the seed in manifest order, so the batch gives the same results on any
+ * number of worker threads. With a table of best known values (see BEST_KNOWN), every
+ * run of an instance in the table stops once it reaches the value, and the CSV has
+ * the value, the gap to it in percent, and the time it took to reach it.
+ *
+ */
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BATCH_RUNNER {
+
+	public static final String THREADS_OPTION = "--threads";
+	public static final String TIME_LIMIT_OPTION = "--time-limit";
+	public static final String CACHE_OPTION = "--cache";
+	public static final String SEED_OPTION = "--seed";
+	public static final String BEST_KNOWN_OPTION = "--best-known";
+	public static final String COMMENT = "#";
+	public static final String INSTANCE_SEPARATOR = ":";
+	public static final String ALL_INSTANCES = "*";
+
+	public static final String CSV_HEADER = "instance,algorithm,repetition,num_iterations,max_generations,"
+			+ "eas_score,score,wall_time_sec,evaluations,timed_out,reached_target,best_known,gap_percent,time_to_target_sec,"
+			+ "cache_hit_rate,best_workflow";
+
+	// problems already read, by instance name, so every file is parsed once
+	static Map<String, SMTWTP> problems = new HashMap<String, SMTWTP>();
+
+	/*
+	 * This class defines a single run of the batch.
+	 */
+	static class RUN {
+
+		String instance;
+		SMTWTP problem;
+		String algorithm;
+		int repetition;
+		int num_iterations;
+		int max_generations;
+
+		RUN(String instance, SMTWTP problem, String algorithm, int repetition,
+				int num_iterations, int max_generations) {
+
+			this.instance = instance;
+			this.problem = problem;
+			this.algorithm = algorithm;
+			this.repetition = repetition;
+			this.num_iterations = num_iterations;
+			this.max_generations = max_generations;
+		}
+	}
+
+	public static void main(String[] args) {
+
+		if (args.length < 2) {
+			System.out.println("Usage: java BATCH_RUNNER manifest output.csv [--threads n] [--time-limit seconds]"
+					+ " [--cache entries] [--seed n] [--best-known file]");
+			System.exit(0);
+		}
+
+		int num_threads = Runtime.getRuntime().availableProcessors();
+
+		try {
+			for (int i = 2; i < args.length; i++) {
+				if (args[i].equals(THREADS_OPTION)) {
+					num_threads = Integer.parseInt(args[++i]);
+				}
+				else if (args[i].equals(TIME_LIMIT_OPTION)) {
+					SMTWTP_HYBRID.time_limit = Double.parseDouble(args[++i]);
+				}
+				else if (args[i].equals(CACHE_OPTION)) {
+					SMTWTP_HYBRID.cache_capacity = Integer.parseInt(args[++i]);
+				}
+				else if (args[i].equals(SEED_OPTION)) {
+					SMTWTP_HYBRID.seed = Long.parseLong(args[++i]);
+				}
+				else if (args[i].equals(BEST_KNOWN_OPTION)) {
+					SMTWTP_HYBRID.best_known_file = args[++i];
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+			System.out.println("Please verify your inputs and try again");
+			System.exit(0);
+		}
+
+		try {
+			if (SMTWTP_HYBRID.best_known_file != null) {
+				SMTWTP_HYBRID.best_known = BEST_KNOWN.read(SMTWTP_HYBRID.best_known_file);
+			}
+			List<RUN> runs = readManifest(args[0]);
+
+			try (PrintWriter output = new PrintWriter(args[1])) {
+				runBatch(runs, num_threads, output);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			System.out.println("Could not run the batch: " + e.getMessage());
+		}
+	}
+
+	/* Purpose: Read the manifest and expand it into one RUN per repetition of every
+	 * instance
+	 * Parameters: The path to the manifest
+	 * Return: The list of runs, in manifest order
+	 */
+	public static List<RUN> readManifest(String manifest) throws IOException {
+
+		List<RUN> runs = new ArrayList<RUN>();
+		String line;
+		int line_number = 0;
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(manifest))) {
+
+			while ((line = reader.readLine()) != null) {
+
+				line_number++;
+				line = line.trim();
+
+				if (line.isEmpty() || line.startsWith(COMMENT)) {
+					continue;
+				}
+
+				String[] fields = line.split("\\s+");
+
+				if (fields.length != 5) {
+					throw new IllegalArgumentException("Line " + line_number + " of " + manifest
+							+ " should have 5 fields: " + line);
+				}
+
+				//every line is checked before any run is submitted, so a bad line cannot
+				//stop the batch halfway through its output
+				String algorithm = fields[1];
+				int repetitions;
+				int num_iterations;
+				int max_generations;
+				List<String> instances;
+
+				if (!algorithm.equals(SMTWTP_HYBRID.ACO) && !algorithm.equals(SMTWTP_HYBRID.GA)
+						&& !algorithm.equals(SMTWTP_HYBRID.HYBRID)) {
+					throw new IllegalArgumentException("Line " + line_number + " of " + manifest
+							+ " has an unknown algorithm: " + algorithm);
+				}
+
+				try {
+					repetitions = Integer.parseInt(fields[2]);
+					num_iterations = Integer.parseInt(fields[3]);
+					max_generations = Integer.parseInt(fields[4]);
+					instances = expandInstance(fields[0]);
+				} catch (IOException | IllegalArgumentException e) {
+					throw new IllegalArgumentException("Line " + line_number + " of " + manifest
+							+ " is invalid: " + e.getMessage());
+				}
+
+				for (String instance : instances) {
+					for (int repetition = 1; repetition <= repetitions; repetition++) {
+						runs.add(new RUN(instance, problems.get(instance), algorithm, repetition,
+								num_iterations, max_generations));
+					}
+				}
+			}
+		}
+		return runs;
+	}
+
+	/* Purpose: Load the problems named by an instance field of the manifest
+	 * Parameters: A problem file, an OR-Library file and instance number, or an
+	 * OR-Library file and * for all of its instances
+	 * Return: The names of the loaded instances, each one a key of problems
+	 */
+	public static List<String> expandInstance(String field) throws IOException {
+
+		List<String> instances = new ArrayList<String>();
+		int separator = field.lastIndexOf(INSTANCE_SEPARATOR);
+
+		//a single problem file
+		if (separator < 0) {
+			if (!problems.containsKey(field)) {
+				if (!new File(field).isFile()) {
+					throw new IllegalArgumentException("No problem file " + field);
+				}
+				problems.put(field, new SMTWTP(field));
+			}
+			instances.add(field);
+			return instances;
+		}
+
+		String filename = field.substring(0, separator);
+		String selection = field.substring(separator + 1);
+
+		//read every instance of the OR-Library file the first time it is named
+		if (!problems.containsKey(filename + INSTANCE_SEPARATOR + 1)) {
+			try (ORLIB_READER reader = new ORLIB_READER(filename)) {
+				while (reader.hasNext()) {
+					SMTWTP problem = reader.next();
+					problems.put(filename + INSTANCE_SEPARATOR + reader.getNum_read(), problem);
+				}
+			}
+		}
+
+		if (selection.equals(ALL_INSTANCES)) {
+			for (int i = 1; problems.containsKey(filename + INSTANCE_SEPARATOR + i); i++) {
+				instances.add(filename + INSTANCE_SEPARATOR + i);
+			}
+		} else if (problems.containsKey(field)) {
+			instances.add(field);
+		} else {
+			throw new IllegalArgumentException("No instance " + selection + " in " + filename);
+		}
+		return instances;
+	}
+
+	/* Purpose: Solve every run on a pool of worker threads, writing each result in
+	 * manifest order. Every run solves its EAS restarts on its own thread, the
+	 * parallelism comes from running many runs at once.
+	 * Parameters: The runs, the number of worker threads, and the CSV output
+	 * Return: None
+	 */
+	public static void runBatch(List<RUN> runs, int num_threads, PrintWriter output) {
+
+		ExecutorService pool = Executors.newFixedThreadPool(num_threads);
+		List<Future<RUN_RESULT>> results = new ArrayList<Future<RUN_RESULT>>(runs.size());
+		RANDOM_STREAMS random_streams = (SMTWTP_HYBRID.seed == null) ? RANDOM_STREAMS.unseeded()
+				: new RANDOM_STREAMS(SMTWTP_HYBRID.seed);
+
+		//the runs of an instance share its problem, so its heuristic is computed
+		//once here, before any of them can ask for it
+		for (RUN run : runs) {
+			run.problem.getHeuristic_beta(SMTWTP_HYBRID.beta);
+		}
+
+		for (RUN run : runs) {
+			SplittableRandom rand = random_streams.split();
+			results.add(pool.submit(() -> SMTWTP_HYBRID.solve(run.problem, run.algorithm,
+					run.num_iterations, run.max_generations, 1, rand,
+					SMTWTP_HYBRID.getBest_known(run.instance))));
+		}
+
+		output.println(CSV_HEADER);
+		output.flush();
+
+		try {
+			for (int i = 0; i < runs.size(); i++) {
+				output.println(toCsv(runs.get(i), results.get(i).get()));
+				output.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The batch was interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A run of the batch failed", e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/* Purpose: Format the result of a run as a CSV row
+	 * Parameters: The run and its result
+	 * Return: The CSV row, with the best workflow as space separated jobs
+	 */
+	public static String toCsv(RUN run, RUN_RESULT result) {
+
+		StringBuilder row = new StringBuilder();
+
+		row.append(run.instance).append(',');
+		row.append(run.algorithm).append(',');
+		row.append(run.repetition).append(',');
+		row.append(run.num_iterations).append(',');
+		row.append(run.max_generations).append(',');
+		row.append(Double.isNaN(result.getEas_score()) ? "" : String.valueOf((long) result.getEas_score())).append(',');
+		row.append(result.getScore()).append(',');
+		row.append(String.format(Locale.ROOT, "%.3f", result.getWall_time())).append(',');
+		row.append(result.getEvaluations()).append(',');
+		row.append(result.isTimed_out()).append(',');
+		row.append(result.isReached_target()).append(',');
+		if (result.getBest_known() != BEST_KNOWN.UNKNOWN) {
+			row.append(result.getBest_known()).append(',');
+			row.append(String.format(Locale.ROOT, "%.4f", result.getGap())).append(',');
+		} else {
+			row.append(",,");
+		}
+		row.append(Double.isNaN(result.getTime_to_target()) ? ""
+				: String.format(Locale.ROOT, "%.3f", result.getTime_to_target())).append(',');
+		row.append(String.format(Locale.ROOT, "%.4f", result.getCache_hit_rate())).append(',');
+
+		int[] workflow = result.getBest_workflow();
+		for (int i = 0; i < workflow.length; i++) {
+			if (i > 0) {
+				row.append(' ');
+			}
+			row.append(workflow[i]);
+		}
+		return row.toString();
+	}
+
+}
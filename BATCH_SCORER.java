@@ -0,0 +1,147 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a BATCH_SCORER object, which scores many workflows of a flat
+ * array at once: the workflow of row r is at positions r * num_jobs to
+ * (r + 1) * num_jobs - 1, like the populations of FLAT_GA. The completion times and
+ * totals are kept in longs, so the score of a row is exact even on large synthetic
+ * instances whose total weighted tardiness does not fit in an int.
+ *
+ * This class is the scalar backend, one row after another. The vector backend,
+ * VECTOR_SCORER, scores one row per lane of a jdk.incubator.vector register, with
+ * the data of the jobs copied into position-major arrays first. It lives in the
+ * vector directory so that javac *.java still builds without the incubator module,
+ * and it is loaded by name when it is asked for:
+ * 	javac --add-modules jdk.incubator.vector -cp . -d . vector/VECTOR_SCORER.java
+ * 	java --add-modules jdk.incubator.vector SMTWTP_HYBRID ... --scoring vector
+ * When it has not been compiled or the module is not added, create falls back to
+ * the scalar backend.
+ *
+ * A BATCH_SCORER may keep scratch arrays, so each thread needs its own.
+ *
+ */
+
+public class BATCH_SCORER {
+
+	public static final String SCALAR = "scalar";
+	public static final String VECTOR = "vector";
+
+	// the class of the vector backend, compiled separately
+	public static final String VECTOR_CLASS = "VECTOR_SCORER";
+
+	// whether the fall back to the scalar backend has been reported
+	static boolean reported_fallback = false;
+
+	int num_jobs;
+	int[] job_data;
+	// the packed job data as longs, for backends that compute in longs
+	long[] job_values;
+
+	/* Purpose: Initialize a scalar BATCH_SCORER object for a problem
+	 * Parameters: The SMTWTP problem
+	 * Return: N/A
+	 */
+	public BATCH_SCORER(SMTWTP smtwtp) {
+
+		this.num_jobs = smtwtp.getNum_jobs();
+		this.job_data = smtwtp.getJob_data();
+		this.job_values = new long[job_data.length];
+
+		for (int i = 0; i < job_data.length; i++) {
+			job_values[i] = job_data[i];
+		}
+	}
+
+	/* Purpose: Create the scorer of a backend, falling back to the scalar backend if
+	 * the vector backend cannot be loaded
+	 * Parameters: The SMTWTP problem and the backend (scalar or vector)
+	 * Return: The BATCH_SCORER
+	 */
+	public static BATCH_SCORER create(SMTWTP smtwtp, String backend) {
+
+		if (backend.equals(SCALAR)) {
+			return new BATCH_SCORER(smtwtp);
+		}
+		if (!backend.equals(VECTOR)) {
+			throw new IllegalArgumentException("Unknown scoring backend: " + backend);
+		}
+
+		try {
+			return (BATCH_SCORER) Class.forName(VECTOR_CLASS).getConstructor(SMTWTP.class).newInstance(smtwtp);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			synchronized (BATCH_SCORER.class) {
+				if (!reported_fallback) {
+					System.err.println("The vector scoring backend is not available (" + e + "), scoring with "
+							+ SCALAR);
+					reported_fallback = true;
+				}
+			}
+			return new BATCH_SCORER(smtwtp);
+		}
+	}
+
+	/* Purpose: Score rows of a flat array of workflows, recording the completion time
+	 * and weighted tardiness of every position when there are arrays for them
+	 * Parameters: The workflows, the completion time and tardiness arrays laid out
+	 * like the workflows (both null to skip them), the rows to score and the number
+	 * of them, and the array that receives the score of each row in the same order
+	 * Return: None
+	 */
+	public void scoreRows(int[] workflows, int[] completion_times, int[] tardiness, int[] rows, int num_rows,
+			long[] scores) {
+
+		for (int k = 0; k < num_rows; k++) {
+			scores[k] = scoreRow(workflows, completion_times, tardiness, rows[k]);
+		}
+	}
+
+	/* Purpose: Score one row of a flat array of workflows, the scalar kernel
+	 * Parameters: The workflows, the completion time and tardiness arrays (both null
+	 * to skip them), and the row
+	 * Return: The total weighted tardiness of the row
+	 */
+	public long scoreRow(int[] workflows, int[] completion_times, int[] tardiness, int row) {
+
+		long score = 0;
+		long time_so_far = 0;
+		long late;
+		int base;
+		int start = row * num_jobs;
+
+		for (int i = start; i < start + num_jobs; i++) {
+
+			base = workflows[i] * SMTWTP.JOB_STRIDE;
+
+			time_so_far += job_data[base + SMTWTP.PROCESSING_TIME];
+			late = Math.max(0, time_so_far - job_data[base + SMTWTP.DUE_DATE]) * job_data[base + SMTWTP.WEIGHT];
+			score += late;
+
+			if (completion_times != null) {
+				completion_times[i] = (int) time_so_far;
+				tardiness[i] = (int) late;
+			}
+		}
+		return score;
+	}
+
+	/* Purpose: Convert a score to the int scores of the engines
+	 * Parameters: The score
+	 * Return: The score as an int
+	 */
+	public static int toScore(long score) {
+
+		if (score > Integer.MAX_VALUE) {
+			throw new ArithmeticException("Score " + score + " does not fit in an int");
+		}
+		return (int) score;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public String getBackend() {
+		return SCALAR;
+	}
+
+}
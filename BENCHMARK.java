@@ -0,0 +1,454 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class is the benchmark suite for the hot paths of the EAS and the GA. Every
+ * benchmark is run on every instance: the problem files in the repository and
+ * synthetic problems of any size, generated the way the OR-Library instances were.
+ * A benchmark is first run for WARMUP_ROUNDS rounds so the JIT can compile it, then
+ * for MEASURED_ROUNDS rounds, and the best rate of the measured rounds is reported.
+ *
+ * Usage: java BENCHMARK [benchmark|all] [instances...]
+ *
+ * The benchmark argument selects every benchmark whose name contains it, so
+ * "score" runs both scoring benchmarks. An instance is either a problem file or
+ * "synthetic:n" for a random problem with n jobs. Without instances the suite runs
+ * on 40.1.txt, 50.1.txt, 100.3.txt, synthetic:500, and synthetic:1000.
+ *
+ * Restricting the run to one benchmark makes it possible to compare cache misses
+ * with an external profiler, for example:
+ * 	perf stat -e cache-misses,cache-references java BENCHMARK score_objects 100.3.txt
+ * 	perf stat -e cache-misses,cache-references java BENCHMARK score_packed 100.3.txt
+ *
+ */
+
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+public class BENCHMARK {
+
+	public static final String ALL = "all";
+	public static final String SYNTHETIC = "synthetic:";
+
+	public static final String[] DEFAULT_INSTANCES = {"40.1.txt", "50.1.txt", "100.3.txt",
+			"synthetic:500", "synthetic:1000"};
+
+	public static final int NUM_WORKFLOWS = 1024;
+	public static final int WARMUP_ROUNDS = 3;
+	public static final int MEASURED_ROUNDS = 5;
+	public static final double NANO_TO_SEC = 1000000000;
+	public static final long ROUND_NANOS = 100000000;
+
+	// budgets of the end-to-end benchmarks
+	public static final int EAS_ITERATIONS = 10;
+	public static final int GA_GENERATIONS = 10;
+
+	// threads of the parallel construction benchmark, at least two so it uses the pool
+	public static final int CONSTRUCT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	// seed of the random workflows and synthetic problems, so runs are comparable
+	public static final long SEED = 42;
+
+	// keeps the JIT from discarding the results
+	static long sink;
+
+	static String filter;
+
+	public static void main(String[] args) {
+
+		filter = ALL;
+		String[] instances = DEFAULT_INSTANCES;
+
+		if (args.length > 0) {
+			filter = args[0];
+		}
+		if (args.length > 1) {
+			instances = new String[args.length - 1];
+			System.arraycopy(args, 1, instances, 0, instances.length);
+		}
+
+		System.out.println("benchmark\tinstance\tjobs\tops/sec\tns/op");
+
+		for (String instance : instances) {
+
+			SMTWTP smtwtp = loadInstance(instance);
+			int[][] workflows = randomWorkflows(smtwtp.getNum_jobs(), NUM_WORKFLOWS, new Random(SEED));
+
+			benchmarkScoring(instance, smtwtp, workflows);
+			benchmarkBatchScoring(instance, smtwtp, workflows);
+			benchmarkEAS(instance, smtwtp);
+			benchmarkGA(instance, smtwtp, workflows);
+			benchmarkLocalSearch(instance, smtwtp, workflows);
+		}
+
+		System.out.println("# " + sink);
+	}
+
+	/* Purpose: Benchmark scoring a workflow with the JOB objects and with the packed
+	 * kernel, and scoring an INDIVIDUAL
+	 * Parameters: The instance name, the SMTWTP instance, and random workflows
+	 * Return: None
+	 */
+	public static void benchmarkScoring(String instance, SMTWTP smtwtp, int[][] workflows) {
+
+		JOB[] jobs = smtwtp.getJobs();
+		int[] job_data = smtwtp.getJob_data();
+		int num_jobs = smtwtp.getNum_jobs();
+		int[] next = new int[1];
+
+		run("score_objects", instance, smtwtp, () ->
+			scoreObjects(workflows[next[0]++ & (NUM_WORKFLOWS - 1)], num_jobs, jobs));
+
+		run("score_packed", instance, smtwtp, () ->
+			SMTWTP.scoreWorkflow(workflows[next[0]++ & (NUM_WORKFLOWS - 1)], num_jobs, job_data));
+
+		INDIVIDUAL[] individuals = new INDIVIDUAL[NUM_WORKFLOWS];
+		for (int i = 0; i < NUM_WORKFLOWS; i++) {
+			individuals[i] = new INDIVIDUAL(num_jobs, smtwtp, workflows[i]);
+		}
+
+		run("individual_scoreWorkflow", instance, smtwtp, () -> {
+			INDIVIDUAL individual = individuals[next[0]++ & (NUM_WORKFLOWS - 1)];
+			individual.scoreWorkflow();
+			return individual.getWorkflow_score();
+		});
+	}
+
+	/* Purpose: Benchmark scoring every random workflow as one flat batch, with each
+	 * backend of BATCH_SCORER, without and with recording the completion times. The
+	 * vector backend is only run when it has been compiled and the incubator module
+	 * added (see BATCH_SCORER).
+	 * Parameters: The instance name, the SMTWTP instance, and random workflows
+	 * Return: None
+	 */
+	public static void benchmarkBatchScoring(String instance, SMTWTP smtwtp, int[][] workflows) {
+
+		int num_jobs = smtwtp.getNum_jobs();
+		int[] flat = new int[NUM_WORKFLOWS * num_jobs];
+		int[] completion_times = new int[flat.length];
+		int[] tardiness = new int[flat.length];
+		int[] rows = new int[NUM_WORKFLOWS];
+		long[] scores = new long[NUM_WORKFLOWS];
+
+		for (int i = 0; i < NUM_WORKFLOWS; i++) {
+			System.arraycopy(workflows[i], 0, flat, i * num_jobs, num_jobs);
+			rows[i] = i;
+		}
+
+		for (String backend : new String[] {BATCH_SCORER.SCALAR, BATCH_SCORER.VECTOR}) {
+
+			BATCH_SCORER scorer = BATCH_SCORER.create(smtwtp, backend);
+			if (!scorer.getBackend().equals(backend)) {
+				continue;
+			}
+
+			run("score_batch_" + backend + "_" + NUM_WORKFLOWS, instance, smtwtp, () -> {
+				scorer.scoreRows(flat, null, null, rows, NUM_WORKFLOWS, scores);
+				return scores[0];
+			});
+
+			run("score_batch_" + backend + "_times_" + NUM_WORKFLOWS, instance, smtwtp, () -> {
+				scorer.scoreRows(flat, completion_times, tardiness, rows, NUM_WORKFLOWS, scores);
+				return scores[0];
+			});
+		}
+	}
+
+	/* Purpose: Benchmark the steps of an EAS iteration and a short EAS run
+	 * Parameters: The instance name and the SMTWTP instance
+	 * Return: None
+	 */
+	public static void benchmarkEAS(String instance, SMTWTP smtwtp) {
+
+		EAS eas = newEAS(new SMTWTP(smtwtp), EAS_ITERATIONS);
+		eas.initializeRun();
+		eas.runIteration();
+
+		ANT ant = eas.getHive().getHive()[0];
+		Random rand = new Random(SEED);
+
+		run("eas_probSelection", instance, smtwtp, () -> {
+			eas.probSelection(ant, rand);
+			return ant.getWorkflow()[0];
+		});
+
+		EAS tree_eas = newEAS(new SMTWTP(smtwtp), EAS_ITERATIONS);
+		tree_eas.setSampling(EAS.TREE_SAMPLING);
+		tree_eas.initializeRun();
+		tree_eas.runIteration();
+		
+		ANT tree_ant = tree_eas.getHive().getHive()[0];
+		
+		run("eas_probSelection_tree", instance, smtwtp, () -> {
+			tree_eas.probSelection(tree_ant, rand);
+			return tree_ant.getWorkflow()[0];
+		});
+		
+		EAS candidate_eas = newEAS(new SMTWTP(smtwtp), EAS_ITERATIONS);
+		candidate_eas.setSampling(EAS.CANDIDATE_SAMPLING);
+		candidate_eas.initializeRun();
+		candidate_eas.runIteration();
+		
+		ANT candidate_ant = candidate_eas.getHive().getHive()[0];
+		
+		run("eas_probSelection_candidates", instance, smtwtp, () -> {
+			candidate_eas.probSelection(candidate_ant, rand);
+			return candidate_ant.getWorkflow()[0];
+		});
+		
+		run("eas_depositPheromone", instance, smtwtp, () -> {
+			eas.depositPheromone();
+			return 1;
+		});
+
+		run("eas_evaporatePheromone", instance, smtwtp, () -> {
+			eas.evaporatePheromone();
+			return 1;
+		});
+
+		run("smtwtp_calculateValue", instance, smtwtp, () -> {
+			eas.getSmtwtp().calculateValue(SMTWTP_HYBRID.alpha, SMTWTP_HYBRID.beta);
+			return 1;
+		});
+
+		run("eas_runEAS_" + EAS_ITERATIONS, instance, smtwtp, () ->
+			newEAS(new SMTWTP(smtwtp), EAS_ITERATIONS).runEAS()[0]);
+
+		// one iteration with its tours built on one thread and on every core
+		for (int threads : new int[] {1, CONSTRUCT_THREADS}) {
+
+			EAS construct_eas = newEAS(new SMTWTP(smtwtp), EAS_ITERATIONS);
+			construct_eas.setNum_threads(threads);
+			construct_eas.initializeRun();
+
+			run("eas_runIteration_threads_" + threads, instance, smtwtp, () -> {
+				construct_eas.runIteration();
+				return (long) construct_eas.getHive().getBest_score_so_far();
+			});
+			construct_eas.shutdownPool();
+		}
+	}
+
+	/* Purpose: Benchmark the GA operators and a short GA run
+	 * Parameters: The instance name, the SMTWTP instance, and random workflows
+	 * Return: None
+	 */
+	public static void benchmarkGA(String instance, SMTWTP smtwtp, int[][] workflows) {
+
+		int[][] initial = new int[SMTWTP_HYBRID.population_size][];
+		System.arraycopy(workflows, 0, initial, 0, initial.length);
+
+		GA ga = newGA(GA_GENERATIONS);
+		ga.initializePopulation(initial, smtwtp);
+
+		INDIVIDUAL[] parents = new INDIVIDUAL[2];
+		int[] next = new int[1];
+
+		run("ga_orderOneCrossover", instance, smtwtp, () -> {
+			parents[0] = ga.population[next[0]++ % ga.population_size];
+			parents[1] = ga.population[next[0]++ % ga.population_size];
+			return ga.orderOneCrossover(parents)[0].getWorkflow()[0];
+		});
+
+		run("ga_mutation", instance, smtwtp, () ->
+			ga.mutation(ga.population)[0].getWorkflow_score());
+
+		run("ga_RunGA_" + GA_GENERATIONS, instance, smtwtp, () ->
+			newGA(GA_GENERATIONS).RunGA(initial, smtwtp)[0]);
+
+		run("ga_runGeneration", instance, smtwtp, () -> {
+			ga.runGeneration();
+			return ga.getBest_score();
+		});
+
+		FLAT_GA flat_ga = new FLAT_GA(SMTWTP_HYBRID.population_size, SMTWTP_HYBRID.mutation_prob,
+				GA_GENERATIONS, SMTWTP_HYBRID.crossover_prob);
+		flat_ga.initializePopulation(initial, smtwtp);
+
+		run("flat_ga_runGeneration", instance, smtwtp, () -> {
+			flat_ga.runGeneration();
+			return flat_ga.getBest_score();
+		});
+	}
+
+	/* Purpose: Benchmark one pass of each local search neighborhood on random
+	 * workflows, each pass starting from a fresh copy
+	 * Parameters: The instance name, the SMTWTP instance, and random workflows
+	 * Return: None
+	 */
+	public static void benchmarkLocalSearch(String instance, SMTWTP smtwtp, int[][] workflows) {
+
+		int num_jobs = smtwtp.getNum_jobs();
+		int[] job_data = smtwtp.getJob_data();
+		int[] workflow = new int[num_jobs];
+		int[] completion_times = new int[num_jobs];
+		int[] tardiness = new int[num_jobs];
+		int[] next = new int[1];
+
+		for (String neighborhood : new String[] {LOCAL_SEARCH.SWAP, LOCAL_SEARCH.INSERTION, LOCAL_SEARCH.DYNASEARCH}) {
+
+			LOCAL_SEARCH local_search = new LOCAL_SEARCH(smtwtp, neighborhood);
+
+			run("ls_" + neighborhood + "Pass", instance, smtwtp, () -> {
+				System.arraycopy(workflows[next[0]++ & (NUM_WORKFLOWS - 1)], 0, workflow, 0, num_jobs);
+				SMTWTP.scoreWindow(workflow, 0, num_jobs - 1, 0, job_data, completion_times, tardiness);
+
+				if (neighborhood.equals(LOCAL_SEARCH.SWAP)) {
+					return local_search.swapPass(workflow, completion_times, tardiness);
+				} else if (neighborhood.equals(LOCAL_SEARCH.INSERTION)) {
+					return local_search.insertionPass(workflow, completion_times, tardiness);
+				}
+				return local_search.dynasearchPass(workflow, completion_times, tardiness);
+			});
+		}
+	}
+
+	/* Purpose: Create an EAS with the parameters of SMTWTP_HYBRID
+	 * Parameters: The SMTWTP instance and the number of iterations
+	 * Return: The EAS
+	 */
+	public static EAS newEAS(SMTWTP smtwtp, int iterations) {
+		return new EAS(SMTWTP_HYBRID.num_ants, iterations, SMTWTP_HYBRID.alpha, SMTWTP_HYBRID.beta,
+				SMTWTP_HYBRID.rho, SMTWTP_HYBRID.elitism_factor, smtwtp);
+	}
+
+	/* Purpose: Create a GA with the parameters of SMTWTP_HYBRID
+	 * Parameters: The number of generations
+	 * Return: The GA
+	 */
+	public static GA newGA(int generations) {
+		return new GA(SMTWTP_HYBRID.population_size, SMTWTP_HYBRID.mutation_prob, generations,
+				SMTWTP_HYBRID.crossover_prob);
+	}
+
+	/* Purpose: Load a problem file, or generate a synthetic problem
+	 * Parameters: The file name, or "synthetic:n"
+	 * Return: The SMTWTP instance
+	 */
+	public static SMTWTP loadInstance(String instance) {
+
+		if (instance.startsWith(SYNTHETIC)) {
+			return syntheticInstance(Integer.parseInt(instance.substring(SYNTHETIC.length())),
+					new Random(SEED));
+		}
+		return new SMTWTP(instance);
+	}
+
+	/* Purpose: Generate a random problem the way the OR-Library instances were:
+	 * processing times from 1 to 100, weights from 1 to 10, and due dates spread
+	 * around the total processing time by a tardiness factor and a due date range
+	 * Parameters: The number of jobs and a random generator
+	 * Return: The SMTWTP instance
+	 */
+	public static SMTWTP syntheticInstance(int num_jobs, Random rand) {
+
+		double tardiness_factor = 0.6;
+		double due_date_range = 0.6;
+
+		int[] processing_times = new int[num_jobs];
+		int[] due_dates = new int[num_jobs];
+		int[] weights = new int[num_jobs];
+		int total_time = 0;
+
+		for (int i = 0; i < num_jobs; i++) {
+			processing_times[i] = 1 + rand.nextInt(100);
+			weights[i] = 1 + rand.nextInt(10);
+			total_time += processing_times[i];
+		}
+
+		int earliest = (int) (total_time * (1 - tardiness_factor - due_date_range / 2));
+		int latest = (int) (total_time * (1 - tardiness_factor + due_date_range / 2));
+
+		for (int i = 0; i < num_jobs; i++) {
+			due_dates[i] = earliest + rand.nextInt(latest - earliest + 1);
+		}
+
+		return new SMTWTP(processing_times, due_dates, weights);
+	}
+
+	/* Purpose: Create random permutations of the jobs
+	 * Parameters: The number of jobs, the number of workflows, and a random generator
+	 * Return: A 2d array of workflows
+	 */
+	public static int[][] randomWorkflows(int num_jobs, int num_workflows, Random rand) {
+
+		int[][] workflows = new int[num_workflows][num_jobs];
+		int swap, temp;
+
+		for (int i = 0; i < num_workflows; i++) {
+			for (int j = 0; j < num_jobs; j++) {
+				workflows[i][j] = j;
+			}
+			for (int j = num_jobs - 1; j > 0; j--) {
+				swap = rand.nextInt(j + 1);
+				temp = workflows[i][j];
+				workflows[i][j] = workflows[i][swap];
+				workflows[i][swap] = temp;
+			}
+		}
+		return workflows;
+	}
+
+	/* Purpose: Run one benchmark if its name matches the filter. Each round calls
+	 * the operation until ROUND_NANOS have passed, at least once.
+	 * Parameters: The benchmark name, the instance name, the SMTWTP instance, and
+	 * the operation, which returns a value that is kept so it cannot be optimized away
+	 * Return: None
+	 */
+	public static void run(String name, String instance, SMTWTP smtwtp, LongSupplier operation) {
+
+		if (!filter.equals(ALL) && !name.contains(filter)) {
+			return;
+		}
+
+		double best = 0;
+
+		for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+
+			long start = System.nanoTime();
+			long elapsed;
+			long operations = 0;
+
+			do {
+				sink += operation.getAsLong();
+				operations++;
+				elapsed = System.nanoTime() - start;
+			} while (elapsed < ROUND_NANOS);
+
+			if (round >= WARMUP_ROUNDS) {
+				best = Math.max(best, operations * NANO_TO_SEC / elapsed);
+			}
+		}
+
+		System.out.printf("%s\t%s\t%d\t%.1f\t%.0f%n", name, instance, smtwtp.getNum_jobs(), best,
+				NANO_TO_SEC / best);
+	}
+
+	/* Purpose: The scoring loop as it was written against the JOB objects, kept as
+	 * the baseline for the packed kernel
+	 * Parameters: The workflow, the number of jobs, and the JOB array
+	 * Return: The total weighted tardiness of the workflow
+	 */
+	public static int scoreObjects(int[] workflow, int num_jobs, JOB[] jobs) {
+
+		int score = 0;
+		int time_so_far = 0;
+
+		int curr_job;
+		int finish_difference;
+
+		for (int i = 0; i < num_jobs; i++) {
+
+			curr_job = workflow[i];
+
+			finish_difference = (time_so_far + jobs[curr_job].getProcessing_time()) - jobs[curr_job].getDue_date();
+
+			if (finish_difference > 0) {
+				score += (finish_difference * jobs[curr_job].getWeight());
+			}
+
+			time_so_far += jobs[curr_job].getProcessing_time();
+		}
+		return score;
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a BEST_KNOWN object, a table of the optimal or best known
+ * total weighted tardiness of benchmark instances, read from a text file. Each line
+ * of the file is an instance and its value, such as
+ * 	wt40.txt:1 913
+ * for the first instance of an OR-Library file, or
+ * 	40.1.txt 913
+ * for a problem file. Blank lines and lines starting with # are skipped.
+ * Instances are named like the instances of BATCH_RUNNER, and only the file name
+ * counts, so data/wt40.txt:1 is the same instance as wt40.txt:1.
+ *
+ * A run whose instance has a best known value stops once it reaches that value, and
+ * reports how far its score is above it and how long it took to reach it.
+ *
+ */
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BEST_KNOWN {
+
+	// value of an instance that is not in the table, the same as no target score
+	public static final int UNKNOWN = STOP_CONDITION.NO_TARGET;
+
+	public static final String COMMENT = "#";
+	public static final String INSTANCE_SEPARATOR = ":";
+
+	Map<String, Integer> values;
+
+	/* Purpose: Initialize an empty BEST_KNOWN object
+	 * Parameters: None
+	 * Return: N/A
+	 */
+	public BEST_KNOWN() {
+		this.values = new HashMap<String, Integer>();
+	}
+
+	/* Purpose: Read a table of best known values
+	 * Parameters: The path to the file
+	 * Return: The BEST_KNOWN
+	 */
+	public static BEST_KNOWN read(String filename) throws IOException {
+
+		BEST_KNOWN best_known = new BEST_KNOWN();
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+
+			String line;
+			int line_number = 0;
+
+			while ((line = reader.readLine()) != null) {
+
+				line_number++;
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith(COMMENT)) {
+					continue;
+				}
+
+				String[] fields = line.split("\\s+");
+				try {
+					if (fields.length != 2) {
+						throw new NumberFormatException();
+					}
+					best_known.put(fields[0], Integer.parseInt(fields[1]));
+				} catch (NumberFormatException e) {
+					throw new IOException(filename + " line " + line_number + " is not an instance and a value: "
+							+ line);
+				}
+			}
+		}
+		return best_known;
+	}
+
+	/* Purpose: Name an instance of an OR-Library file like BATCH_RUNNER does
+	 * Parameters: The path to the OR-Library file and the 1-based number of the instance
+	 * Return: The name of the instance
+	 */
+	public static String instance(String filename, int number) {
+		return filename + INSTANCE_SEPARATOR + number;
+	}
+
+	/* Purpose: Drop the directories of an instance name
+	 * Parameters: The name of the instance
+	 * Return: The name without directories
+	 */
+	public static String key(String instance) {
+		return instance.substring(instance.lastIndexOf('/') + 1);
+	}
+
+	/* Purpose: Find the best known value of an instance
+	 * Parameters: The name of the instance
+	 * Return: The value, or UNKNOWN
+	 */
+	public int get(String instance) {
+
+		Integer value = values.get(key(instance));
+		return (value == null) ? UNKNOWN : value;
+	}
+
+	/* Purpose: Add the best known value of an instance
+	 * Parameters: The name of the instance and the value
+	 * Return: None
+	 */
+	public void put(String instance, int value) {
+
+		if (value < 0) {
+			throw new IllegalArgumentException("Best known value of " + instance + " is negative: " + value);
+		}
+		values.put(key(instance), value);
+	}
+
+	/* Purpose: Find how far a score is above the best known value, in percent. Many
+	 * instances have an optimum of 0, so the difference is divided by at least 1.
+	 * Parameters: The score and the best known value
+	 * Return: The gap in percent, or NaN if the value is UNKNOWN
+	 */
+	public static double gap(int score, int best_known) {
+
+		if (best_known == UNKNOWN) {
+			return Double.NaN;
+		}
+		return 100.0 * (score - best_known) / Math.max(best_known, 1);
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public int getNum_values() {
+		return values.size();
+	}
+
+}
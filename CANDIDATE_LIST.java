@@ -0,0 +1,92 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a CANDIDATE_LIST object, which keeps for every job the few
+ * other jobs with the highest selection values from it. Ants that construct with
+ * candidate lists only choose among the unscheduled candidates of their current job,
+ * and look at every unscheduled job only once all of the candidates are scheduled.
+ *
+ * The lists are ranked by the value matrix (pheromone^alpha * heuristic^beta) when
+ * they are built, and are then only read, so they are shared by every ant. The ants
+ * still weigh the candidates by their current values.
+ *
+ */
+
+public class CANDIDATE_LIST {
+
+	int num_jobs;
+	int num_candidates;
+	// the candidates of job i, best first, are candidates[i * num_candidates .. (i + 1) * num_candidates - 1]
+	int[] candidates;
+	// values of the candidates of the row being built
+	double[] candidate_values;
+
+	/* Purpose: Initialize a CANDIDATE_LIST object with empty lists
+	 * Parameters: The number of jobs and the number of candidates per job
+	 * Return: N/A
+	 */
+	public CANDIDATE_LIST(int num_jobs, int num_candidates) {
+
+		this.num_jobs = num_jobs;
+		this.num_candidates = Math.max(1, Math.min(num_candidates, num_jobs - 1));
+		this.candidates = new int[num_jobs * this.num_candidates];
+		this.candidate_values = new double[this.num_candidates];
+	}
+
+	/* Purpose: Rebuild the list of every job from the value matrix, keeping the
+	 * highest values of each row in sorted order, in O(n * k) per row
+	 * Parameters: The value matrix
+	 * Return: None
+	 */
+	public void build(TRIANGULAR_MATRIX value) {
+
+		int base, size, slot;
+		double job_value;
+
+		for (int row = 0; row < num_jobs; row++) {
+
+			base = row * num_candidates;
+			size = 0;
+
+			for (int job = 0; job < num_jobs; job++) {
+
+				if (job == row) {
+					continue;
+				}
+
+				job_value = value.get(row, job);
+
+				// a full list only takes jobs better than its worst candidate
+				if (size == num_candidates && job_value <= candidate_values[size - 1]) {
+					continue;
+				}
+				if (size < num_candidates) {
+					size++;
+				}
+
+				// shift the worse candidates down and insert the job in order
+				slot = size - 1;
+				while (slot > 0 && candidate_values[slot - 1] < job_value) {
+					candidate_values[slot] = candidate_values[slot - 1];
+					candidates[base + slot] = candidates[base + slot - 1];
+					slot--;
+				}
+				candidate_values[slot] = job_value;
+				candidates[base + slot] = job;
+			}
+		}
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public int getNum_candidates() {
+		return num_candidates;
+	}
+
+	public int[] getCandidates() {
+		return candidates;
+	}
+
+}
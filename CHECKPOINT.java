@@ -0,0 +1,357 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class writes and reads the binary snapshots that let an EAS or GA run be
+ * stopped and later resumed exactly where it was.
+ *
+ * An EAS snapshot holds the stored pheromone of every path and the pheromone scale,
+ * the best workflow of the hive and of the EAS, the successor of every job in the
+ * best workflow, the candidate lists when they are used, the iterations and
+ * evaluations so far, and the seeds of the random streams of the run and of every
+ * ant. A GA snapshot holds every workflow of the population, the best workflow, the
+ * generations and evaluations so far, and the seed of the random stream. Everything
+ * else (the values of the paths, the sampling trees, and the scores of the
+ * population) is recomputed from these when the snapshot is read.
+ *
+ * The state of a SplittableRandom cannot be read back, so when a snapshot is
+ * written each random stream is replaced by a stream seeded with a seed drawn from
+ * itself, and that seed is stored. A run that writes a snapshot and the run resumed
+ * from it then draw the same numbers.
+ *
+ * A snapshot is a header (MAGIC, VERSION, the kind of engine, and a fingerprint of
+ * the run) followed by the fields in big-endian order. The fingerprint hashes the
+ * data of every job with the parameters that shape the run (the algorithm, and
+ * alpha, beta, rho, elitism, sampling, and local search for an EAS, or the mutation
+ * and crossover probabilities and local search for a GA), so a snapshot is never
+ * resumed by a run of another problem of the same size or with other parameters. It
+ * is written through a FileChannel to a temporary file that replaces the snapshot
+ * in one move, so a run stopped while writing leaves the previous snapshot intact,
+ * and it is read back through a memory-mapped buffer.
+ *
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+public class CHECKPOINT {
+
+	public static final int MAGIC = 0x534D5457;
+	public static final int VERSION = 3;
+	public static final int EAS_SNAPSHOT = 1;
+	public static final int GA_SNAPSHOT = 2;
+
+	// bytes of the header, and of each kind of field
+	public static final int HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+
+	// FNV-1a offset basis and prime of the fingerprint
+	public static final long FINGERPRINT_BASIS = 0xcbf29ce484222325L;
+	public static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
+	/* Purpose: Write a snapshot of an EAS run, at the end of an iteration
+	 * Parameters: The path of the snapshot and the EAS
+	 * Return: None
+	 */
+	public static void writeEAS(Path path, EAS eas) throws IOException {
+
+		int num_jobs = eas.num_jobs;
+		double[] cells = eas.smtwtp.getSmtwtp_pheromone().getCells();
+		int[] candidates = (eas.candidate_list == null) ? new int[0] : eas.candidate_list.getCandidates();
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES
+				+ 4 * Integer.BYTES + Long.BYTES + 3 * Double.BYTES
+				+ 3 * num_jobs * Integer.BYTES + Integer.BYTES + cells.length * Double.BYTES
+				+ Long.BYTES + Integer.BYTES + eas.ant_rands.length * Long.BYTES
+				+ Integer.BYTES + candidates.length * Integer.BYTES);
+
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(EAS_SNAPSHOT).putLong(fingerprint(eas));
+
+		buffer.putInt(num_jobs);
+		buffer.putInt(eas.num_ants);
+		buffer.putInt(eas.num_iterations_run);
+		buffer.putInt(eas.max_iterations);
+		buffer.putLong(eas.num_evaluations);
+
+		buffer.putDouble(eas.best_all_time);
+		buffer.putDouble(eas.hive.getBest_score_so_far());
+		buffer.putDouble(eas.smtwtp.getPheromone_scale());
+
+		putInts(buffer, eas.best_workflow, num_jobs);
+		putInts(buffer, eas.hive.getBest_workflow_so_far(), num_jobs);
+		putInts(buffer, eas.best_successor, num_jobs);
+
+		buffer.putInt(cells.length);
+		for (double cell : cells) {
+			buffer.putDouble(cell);
+		}
+
+		long seed = eas.rand.nextLong();
+		eas.rand = new SplittableRandom(seed);
+		buffer.putLong(seed);
+
+		buffer.putInt(eas.ant_rands.length);
+		for (int i = 0; i < eas.ant_rands.length; i++) {
+			buffer.putLong(reseed(eas.ant_rands, i));
+		}
+
+		buffer.putInt(candidates.length);
+		putInts(buffer, candidates, candidates.length);
+
+		write(path, buffer);
+	}
+
+	/* Purpose: Restore an EAS run from a snapshot. The EAS must have been prepared
+	 * for the same problem with initializeRun.
+	 * Parameters: The path of the snapshot and the EAS
+	 * Return: None
+	 */
+	public static void readEAS(Path path, EAS eas) throws IOException {
+
+		ByteBuffer buffer = read(path, EAS_SNAPSHOT, fingerprint(eas));
+
+		int num_jobs = buffer.getInt();
+		int num_ants = buffer.getInt();
+
+		if (num_jobs != eas.num_jobs || num_ants != eas.num_ants) {
+			throw new IOException(path + " is a snapshot of " + num_ants + " ants on " + num_jobs + " jobs");
+		}
+
+		eas.num_iterations_run = buffer.getInt();
+		buffer.getInt();
+		eas.num_evaluations = buffer.getLong();
+
+		eas.best_all_time = buffer.getDouble();
+		eas.hive.setBest_score_so_far(buffer.getDouble());
+		double pheromone_scale = buffer.getDouble();
+
+		eas.best_workflow = getInts(buffer, num_jobs);
+		eas.hive.setBest_workflow_so_far(getInts(buffer, num_jobs));
+		eas.best_successor = getInts(buffer, num_jobs);
+
+		double[] cells = eas.smtwtp.getSmtwtp_pheromone().getCells();
+		if (buffer.getInt() != cells.length) {
+			throw new IOException(path + " does not match the pheromone matrix");
+		}
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = buffer.getDouble();
+		}
+		eas.smtwtp.setPheromone_scale(pheromone_scale);
+
+		eas.rand = new SplittableRandom(buffer.getLong());
+		if (buffer.getInt() != eas.ant_rands.length) {
+			throw new IOException(path + " does not match the random streams of the ants");
+		}
+		for (int i = 0; i < eas.ant_rands.length; i++) {
+			eas.ant_rands[i] = new SplittableRandom(buffer.getLong());
+		}
+
+		int num_candidates = buffer.getInt();
+		if (eas.candidate_list != null && num_candidates == eas.candidate_list.getCandidates().length) {
+			System.arraycopy(getInts(buffer, num_candidates), 0, eas.candidate_list.getCandidates(), 0,
+					num_candidates);
+		}
+	}
+
+	/* Purpose: Write a snapshot of a GA run, at the end of a generation
+	 * Parameters: The path of the snapshot and the GA
+	 * Return: None
+	 */
+	public static void writeGA(Path path, GA ga) throws IOException {
+
+		int num_jobs = ga.num_jobs;
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES
+				+ 4 * Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+				+ num_jobs * Integer.BYTES + ga.population_size * num_jobs * Integer.BYTES);
+
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(GA_SNAPSHOT).putLong(fingerprint(ga));
+
+		buffer.putInt(num_jobs);
+		buffer.putInt(ga.population_size);
+		buffer.putInt(ga.num_generations_run);
+		buffer.putInt(ga.max_generations);
+		buffer.putLong(ga.num_evaluations);
+		buffer.putInt(ga.best_score);
+		long seed = ga.rand.nextLong();
+		ga.rand = new SplittableRandom(seed);
+		buffer.putLong(seed);
+
+		putInts(buffer, ga.best_workflow, num_jobs);
+		for (int i = 0; i < ga.population_size; i++) {
+			putInts(buffer, ga.population[i].getWorkflow(), num_jobs);
+		}
+
+		write(path, buffer);
+	}
+
+	/* Purpose: Restore a GA run from a snapshot, rescoring its population. The GA
+	 * must have been prepared for the same problem with initializePopulation.
+	 * Parameters: The path of the snapshot and the GA
+	 * Return: None
+	 */
+	public static void readGA(Path path, GA ga) throws IOException {
+
+		ByteBuffer buffer = read(path, GA_SNAPSHOT, fingerprint(ga));
+
+		int num_jobs = buffer.getInt();
+		int population_size = buffer.getInt();
+
+		if (num_jobs != ga.num_jobs || population_size != ga.population_size) {
+			throw new IOException(path + " is a snapshot of " + population_size + " individuals on "
+					+ num_jobs + " jobs");
+		}
+
+		ga.num_generations_run = buffer.getInt();
+		buffer.getInt();
+		ga.num_evaluations = buffer.getLong();
+		ga.best_score = buffer.getInt();
+		ga.rand = new SplittableRandom(buffer.getLong());
+
+		ga.best_workflow = getInts(buffer, num_jobs);
+		for (int i = 0; i < population_size; i++) {
+			ga.population[i] = new INDIVIDUAL(num_jobs, ga.smtwtp, getInts(buffer, num_jobs));
+			ga.population[i].scoreWorkflow();
+		}
+	}
+
+	/* Purpose: Fingerprint the problem and parameters of an EAS run
+	 * Parameters: The EAS
+	 * Return: The fingerprint
+	 */
+	public static long fingerprint(EAS eas) {
+
+		long hash = hash(FINGERPRINT_BASIS, eas.smtwtp.getJob_data());
+		hash = hash(hash, eas.checkpoint_algorithm);
+		hash = hash(hash, eas.alpha);
+		hash = hash(hash, eas.beta);
+		hash = hash(hash, eas.rho);
+		hash = hash(hash, eas.elitism_factor);
+		hash = hash(hash, eas.sampling);
+		return hash(hash, eas.local_search);
+	}
+
+	/* Purpose: Fingerprint the problem and parameters of a GA run
+	 * Parameters: The GA
+	 * Return: The fingerprint
+	 */
+	public static long fingerprint(GA ga) {
+
+		long hash = hash(FINGERPRINT_BASIS, ga.smtwtp.getJob_data());
+		hash = hash(hash, ga.checkpoint_algorithm);
+		hash = hash(hash, ga.mutation_prob);
+		hash = hash(hash, ga.crossover_prob);
+		return hash(hash, ga.local_search);
+	}
+
+	/* Purpose: Add values to a fingerprint, FNV-1a style
+	 * Parameters: The fingerprint so far and the values
+	 * Return: The new fingerprint
+	 */
+	public static long hash(long hash, int[] values) {
+
+		hash = hash(hash, (long) values.length);
+		for (int value : values) {
+			hash = hash(hash, (long) value);
+		}
+		return hash;
+	}
+
+	public static long hash(long hash, long value) {
+		return (hash ^ value) * FINGERPRINT_PRIME;
+	}
+
+	public static long hash(long hash, double value) {
+		return hash(hash, Double.doubleToLongBits(value));
+	}
+
+	public static long hash(long hash, String value) {
+		return hash(hash, (value == null) ? 0L : (long) value.hashCode());
+	}
+
+	/* Purpose: Replace a random stream with one seeded from a seed drawn from itself
+	 * Parameters: The array of streams and the index of the stream
+	 * Return: The new seed
+	 */
+	public static long reseed(SplittableRandom[] rands, int index) {
+
+		long seed = rands[index].nextLong();
+		rands[index] = new SplittableRandom(seed);
+		return seed;
+	}
+
+	/* Purpose: Write a filled buffer to a temporary file next to the snapshot, then
+	 * move it over the snapshot
+	 * Parameters: The path of the snapshot and the buffer
+	 * Return: None
+	 */
+	public static void write(Path path, ByteBuffer buffer) throws IOException {
+
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/* Purpose: Map a snapshot into memory and check its header
+	 * Parameters: The path of the snapshot, and the kind of snapshot and fingerprint
+	 * expected
+	 * Return: The buffer, positioned after the header
+	 */
+	public static ByteBuffer read(Path path, int kind, long fingerprint) throws IOException {
+
+		MappedByteBuffer buffer;
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+			throw new IOException(path + " is not a snapshot");
+		}
+		if (buffer.getInt() != VERSION || buffer.getInt() != kind) {
+			throw new IOException(path + " is a snapshot of another version or engine");
+		}
+		if (buffer.getLong() != fingerprint) {
+			throw new IOException(path + " is a snapshot of another problem or other run parameters");
+		}
+		return buffer;
+	}
+
+	/* Purpose: Put the first values of an array into a buffer
+	 * Parameters: The buffer, the array, and the number of values
+	 * Return: None
+	 */
+	public static void putInts(ByteBuffer buffer, int[] values, int count) {
+
+		for (int i = 0; i < count; i++) {
+			buffer.putInt(values[i]);
+		}
+	}
+
+	/* Purpose: Get values from a buffer
+	 * Parameters: The buffer and the number of values
+	 * Return: The values
+	 */
+	public static int[] getInts(ByteBuffer buffer, int count) {
+
+		int[] values = new int[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = buffer.getInt();
+		}
+		return values;
+	}
+
+}
@@ -15,11 +15,57 @@
  * The class contains a base-pheromone equation from the ACO handout, that is
  * used to determine the base-tau for the environment.
  * 
+ * The tours of an iteration only read the value matrix, so they may be constructed
+ * on several threads. Each worker builds a fixed, contiguous block of ants, and every
+ * ant has its own scratch arrays and its own random stream, split off the stream of
+ * the EAS in ant order (see RANDOM_STREAMS), so a seeded run builds the same tours on
+ * any number of threads. Pheromone evaporation and deposit still run on the calling
+ * thread afterwards, in ant order.
+ * 
+ * With tree sampling, the next job of a tour is drawn from a Fenwick tree over the
+ * current job's row of the value matrix, leaving out the k scheduled jobs in
+ * O(k + log n log k) (see ROW_SAMPLER), while fewer jobs are scheduled than
+ * unscheduled. The second half of a tour uses the linear scan over the unscheduled
+ * jobs, so a step costs about min(k, n - k) instead of n - k.
+ * With candidate lists, the next job is drawn among the unscheduled jobs of the current
+ * job's candidate list (see CANDIDATE_LIST), and among every unscheduled job only once
+ * the list is used up.
+ * 
+ * A local search (see LOCAL_SEARCH) may be applied to every tour after it is built,
+ * before the best so far is updated and pheromone is deposited.
+ * 
+ * Without a local search, the tours of an iteration may instead be scored together
+ * once they are all built, by a BATCH_SCORER of the chosen scoring backend.
+ * 
+ * A run also stops, keeping its best so far, when its STOP_CONDITION is met: the clock
+ * is checked every DEADLINE_CHECK_ANTS tours and once per iteration, and the best so
+ * far is checked against the target score once per iteration.
+ * 
+ * With a TELEMETRY, every iteration is timed step by step and recorded, along with the
+ * best and mean scores and the diversity of the tours.
+ * 
+ * With a checkpoint path, the state of the run is written to a snapshot (see
+ * CHECKPOINT) every checkpoint_interval iterations and when the run finishes, and a
+ * run whose snapshot already exists resumes from it. Iterations cut short by the stop
+ * condition are not written, so a resumed run continues exactly as it would have.
+ * 
  */
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Random;
+import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
 
 public class EAS {
 	
@@ -34,15 +80,78 @@ public class EAS {
 	double best_all_time;
 	int[] best_workflow;
 	
+	//number of complete workflows scored over every run
+	long num_evaluations;
+	
 	SMTWTP smtwtp;
 	HIVE hive;
-	Set<Integer> transitions_in_best_workflow;
+	//whether each ant's tour was built in the current iteration
+	boolean[] is_built;
+	//the job after each job in the best workflow so far, -1 for the last job
+	int[] best_successor;
 	
 	JOB[] jobs;
 	
+	//random stream of the run, and the stream of each ant split off it
+	SplittableRandom rand;
+	SplittableRandom[] ant_rands;
+	
+	//number of threads constructing tours, and the pool
+	int num_threads;
+	ExecutorService pool;
+	
+	//how the next job is drawn, the trees for tree sampling, the lists for
+	//candidate sampling, and the iterations performed in the run
+	String sampling;
+	ROW_SAMPLER sampler;
+	CANDIDATE_LIST candidate_list;
+	int num_iterations_run;
+	
+	//neighborhood of the local search applied to every tour (null for none), and
+	//one local search per construction worker
+	String local_search;
+	LOCAL_SEARCH[] local_searches;
+	
+	//batch scoring backend (null to score each tour as it is built), its scorer, and
+	//the tours of an iteration copied into one flat array with their rows and scores
+	String scoring;
+	BATCH_SCORER scorer;
+	int[] tours;
+	int[] tour_rows;
+	long[] tour_scores;
+	
+	//time limit and target score of the run
+	STOP_CONDITION stop_condition;
+	
+	//records of every iteration (null for none), the name of the run in them, and
+	//the nanoseconds spent in each step of the current iteration
+	TELEMETRY telemetry;
+	String telemetry_source;
+	long[] step_nanos;
+	
+	//snapshot of the run (null for none), and iterations between snapshots
+	Path checkpoint_path;
+	int checkpoint_interval;
+	//algorithm the run is part of, which is part of the fingerprint of its snapshots
+	String checkpoint_algorithm;
+	
 	public static final double NANO_TO_SEC = 1000000000;
 	public static final int PRINT_ON_ITERATION = 20;
 	public static final int STOP_TIME = Integer.MAX_VALUE;
+	//tours constructed by a worker between checks of the clock
+	public static final int DEADLINE_CHECK_ANTS = 8;
+	
+	//how the next job of a tour is drawn: a linear scan over the unscheduled jobs,
+	//a draw from the Fenwick tree of the current job's row, or a draw among the
+	//current job's candidates
+	public static final String LINEAR_SAMPLING = "linear";
+	public static final String TREE_SAMPLING = "tree";
+	public static final String CANDIDATE_SAMPLING = "candidates";
+	
+	//candidates kept per job, and iterations between rebuilds of the lists
+	public static final int NUM_CANDIDATES = 20;
+	public static final int CANDIDATE_REFRESH = 10;
+	
 
 	
 	public EAS(int num_ants, int max_iterations, double alpha, double beta, double rho,
@@ -55,15 +164,20 @@ public class EAS {
 		this.rho = rho;
 		this.elitism_factor = elitism_factor;
 		this.smtwtp = smtwtp;
-		this.transitions_in_best_workflow = new HashSet<Integer>();
+		this.best_successor = new int[smtwtp.getNum_jobs()];
 		this.best_all_time = Double.MAX_VALUE;
 		this.best_workflow = new int[smtwtp.getNum_jobs()];
+		this.rand = new SplittableRandom();
+		this.num_threads = 1;
+		this.sampling = LINEAR_SAMPLING;
+		this.stop_condition = STOP_CONDITION.never();
 	}
 	
 	/*
 	 * Purpose: The main algorithm of the EAS algorithm. It iteratively builds workflows, finds
 	 * 	the best workflow, and updates pheromone levels. The algorithm stops iterating when 
-	 * 	a specified number of iterations is met.
+	 * 	a specified number of iterations is met, or when the stop condition is met after
+	 * 	the first iteration.
 	 * Parameters: none
 	 * Return: none, prints the best so far in each iteration
 	 * 
@@ -72,77 +186,249 @@ public class EAS {
 		
 		// double startTime = System.nanoTime();
 		
+		initializeRun();
+		
+		try {
+			//continue from the snapshot of an interrupted run
+			if(checkpoint_path != null && Files.exists(checkpoint_path)) {
+				CHECKPOINT.readEAS(checkpoint_path, this);
+				refreshValues();
+			}
+			
+			//iterates until max iterations, or until the stop condition is met once
+			//there is a best workflow to return
+			while(num_iterations_run < max_iterations
+					&& (num_iterations_run == 0 || !stop_condition.isStopped())) {
+				runIteration();
+				
+				if(checkpoint_path != null && !stop_condition.isStopped()
+						&& (num_iterations_run % checkpoint_interval == 0 || num_iterations_run == max_iterations)) {
+					CHECKPOINT.writeEAS(checkpoint_path, this);
+				}
+			}
+		} catch(IOException e) {
+			throw new IllegalStateException("Could not use the checkpoint " + checkpoint_path, e);
+		} finally {
+			shutdownPool();
+		}
+		
+		if(hive.getBest_score_so_far() < best_all_time) {
+			best_all_time = hive.getBest_score_so_far();
+			best_workflow = hive.getBest_workflow_so_far();
+		}
+		
+		return hive.getBest_workflow_so_far();
+
+	}
+	
+	/*
+	 * Purpose: Prepares a run of the algorithm: sets the base pheromone, creates the
+	 * 	hive and the construction workers, and calculates the numerator of the prob
+	 * 	selection rule for the first iteration.
+	 * Parameters: none
+	 * Return: none
+	 * 
+	 */
+	public void initializeRun() {
+		
 		num_jobs = smtwtp.getNum_jobs();
 		jobs = smtwtp.getJobs();
 		smtwtp.initializePheromone(setBasePheromone());
 		
 		//creates a new hive object
 		hive = new HIVE(num_ants, smtwtp.getNum_jobs(), smtwtp);
+		is_built = new boolean[num_ants];
+		Arrays.fill(best_successor, -1);
+		
+		//each ant gets its own stream, whichever worker builds its tour
+		ant_rands = RANDOM_STREAMS.split(rand, num_ants);
+		if(num_threads > 1) {
+			pool = Executors.newFixedThreadPool(num_threads);
+		}
 		
-		int num_iteration = 0;
+		//the trees are only needed for tree sampling
+		sampler = sampling.equals(TREE_SAMPLING) ? new ROW_SAMPLER(num_jobs) : null;
+		candidate_list = sampling.equals(CANDIDATE_SAMPLING) ? new CANDIDATE_LIST(num_jobs, NUM_CANDIDATES) : null;
+		num_iterations_run = 0;
 		
-		//iterates until max iterations
-		while(num_iteration < max_iterations) {
-			
-			//recalculate the numerator of the prob selection rule
-			smtwtp.calculateValue(alpha, beta);
-			//construct the tours
-			construct();
-			//checks if there is new best
-			if(hive.findBest()) {
-				//if there is a new best, the paths in best_so_far set are updated
-				updateTransitionSet();
+		if(local_search != null) {
+			local_searches = new LOCAL_SEARCH[Math.max(1, num_threads)];
+			for(int i = 0; i < local_searches.length; i++) {
+				local_searches[i] = new LOCAL_SEARCH(smtwtp, local_search);
 			}
-			
-			//perform evaporation and depositing of pheromone
+		}
+		else {
+			local_searches = null;
+		}
+		
+		//the tours are only batch scored when there is no local search to score them
+		if(scoring != null && local_searches == null) {
+			scorer = BATCH_SCORER.create(smtwtp, scoring);
+			tours = new int[num_ants * num_jobs];
+			tour_rows = new int[num_ants];
+			tour_scores = new long[num_ants];
+		}
+		else {
+			scorer = null;
+		}
+		
+		//calculate the numerator of the prob selection rule for the first iteration
+		refreshValues();
+	}
+	
+	/*
+	 * Purpose: Performs one iteration of the algorithm: constructs the tours, updates
+	 * 	the best so far, and updates the pheromone levels. If the stop condition is met,
+	 * 	the pheromone is left as it is. With a telemetry, each step is timed and a
+	 * 	record of the iteration is added to it.
+	 * Parameters: none
+	 * Return: none
+	 *
+	 */
+	public void runIteration() {
+
+		//the steps are only timed for the telemetry
+		boolean timed = (telemetry != null);
+		if(timed) {
+			Arrays.fill(step_nanos, 0);
+		}
+		long step_start = timed ? System.nanoTime() : 0;
+
+		//construct the tours
+		construct();
+		num_evaluations += num_ants;
+		num_iterations_run++;
+
+		if(timed) {
+			step_nanos[TELEMETRY.CONSTRUCT] = System.nanoTime() - step_start;
+		}
+
+		//checks if there is new best
+		if(hive.findBest()) {
+			//if there is a new best, the paths in best_so_far set are updated
+			updateTransitionSet();
+		}
+
+		stop_condition.checkScore(hive.getBest_score_so_far());
+		if(!stop_condition.checkTime()) {
+
+			//perform evaporation and depositing of pheromone, and recalculate the
+			//numerator of the prob selection rule for the next iteration
+			step_start = timed ? System.nanoTime() : 0;
 			evaporatePheromone();
+			if(timed) {
+				step_nanos[TELEMETRY.EVAPORATE] = System.nanoTime() - step_start;
+				step_start = System.nanoTime();
+			}
+
 			depositPheromone();
-			
-			num_iteration++;
+			if(timed) {
+				step_nanos[TELEMETRY.DEPOSIT] = System.nanoTime() - step_start;
+				step_start = System.nanoTime();
+			}
+
+			refreshValues();
+			if(timed) {
+				step_nanos[TELEMETRY.VALUE] = System.nanoTime() - step_start;
+			}
+		}
+
+		if(timed) {
+			recordIteration();
+		}
+	}
+
+	/*
+	 * Purpose: Adds a record of the iteration to the telemetry. The mean score and
+	 * 	diversity are taken over the ants whose tours were built in this iteration,
+	 * 	since the others kept an older tour (or none yet) when time ran out.
+	 * Parameters: none
+	 * Return: none
+	 *
+	 */
+	public void recordIteration() {
+
+		double total_score = 0.0;
+		double total_difference = 0.0;
+		int num_built = 0;
+		int[] best = hive.getBest_workflow_so_far();
+		ANT[] ants = hive.getHive();
+
+		for(int i = 0; i < num_ants; i++) {
+			if(is_built[i]) {
+				total_score += ants[i].getWorkflow_score();
+				total_difference += TELEMETRY.difference(ants[i].getWorkflow(), best);
+				num_built++;
+			}
 		}
+		num_built = Math.max(1, num_built);
+
+		telemetry.record(telemetry_source, num_iterations_run, hive.getBest_score_so_far(),
+				total_score / num_built, num_evaluations, total_difference / num_built, step_nanos);
+	}
+
+	/*
+	 * Purpose: Recalculates the numerator of the prob selection rule from the current
+	 * 	pheromone levels, and rebuilds the sampling trees when they are used. The
+	 * 	candidate lists are rebuilt every CANDIDATE_REFRESH iterations, since the
+	 * 	ranking of the values changes slowly.
+	 * Parameters: none
+	 * Return: none
+	 * 
+	 */
+	public void refreshValues() {
 		
-		if(hive.getBest_score_so_far() < best_all_time) {
-			best_all_time = hive.getBest_score_so_far();
-			best_workflow = hive.getBest_workflow_so_far();
+		smtwtp.calculateValue(alpha, beta);
+		
+		if(sampler != null) {
+			sampler.build(smtwtp.getSmtwtp_value());
 		}
+		if(candidate_list != null && num_iterations_run % CANDIDATE_REFRESH == 0) {
+			candidate_list.build(smtwtp.getSmtwtp_value());
+		}
+	}
+	
+	/*
+	 * Purpose: Stops the construction workers of a run, if there are any.
+	 * Parameters: none
+	 * Return: none
+	 * 
+	 */
+	public void shutdownPool() {
 		
-		return hive.getBest_workflow_so_far();
-
+		if(pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
 	}
 	
 	/*
-	 * Purpose: To update the set of legs of the best tour so far. This set contains
-	 * 	a hashkey (int) that represents a path from job i to j. The values of the two jobs
-	 * 	are combined using the Cantor function, so one value is produced and can be
-	 * 	added to the set. This is helpful when we later want to determine if a specific
-	 * 	leg is in the bsf tour.
+	 * Purpose: To update the legs of the best tour so far. For each job, the job that
+	 * 	follows it in the bsf workflow is stored, so checking whether a leg between two
+	 * 	jobs is in the bsf tour only takes two array reads, in either direction.
 	 * Parameters: none
-	 * Return: none, updates the set containing hashkeys for paths in bsf workflow
+	 * Return: none, updates the successor of each job in the bsf workflow
 	 * 
 	 */
 	public void updateTransitionSet() {
 		
-		//removes the old hashkeys
-		transitions_in_best_workflow.clear();
-
-		int job1, job2;
+		int[] best_workflow_so_far = hive.getBest_workflow_so_far();
 		
 		//for each job in the bsf workflow
 		for(int i = 0; i < num_jobs-1; i++) {
-			
-			//sort the jobs in the workflow
-			if(hive.getBest_workflow_so_far()[i] < hive.getBest_workflow_so_far()[i+1]) {
-				job1 = hive.getBest_workflow_so_far()[i];
-				job2 = hive.getBest_workflow_so_far()[i+1];
-			} else {
-				job1 = hive.getBest_workflow_so_far()[i+1];
-				job2 = hive.getBest_workflow_so_far()[i];
-			}
-		
-			//create hashkey using Cantor Pairing Function
-			transitions_in_best_workflow.add((((job1 + job2)*(job1 + job2 + 1)) / 2) + job2);
-			
+			best_successor[best_workflow_so_far[i]] = best_workflow_so_far[i+1];
 		}
+		best_successor[best_workflow_so_far[num_jobs-1]] = -1;
+	}
+	
+	/*
+	 * Purpose: To check whether the leg between two jobs is in the best tour so far.
+	 * Parameters: the two jobs of the leg, in either order (int, int)
+	 * Return: whether one of the jobs directly follows the other in the bsf workflow
+	 * 
+	 */
+	public boolean isBestTransition(int job1, int job2) {
+		return best_successor[job1] == job2 || best_successor[job2] == job1;
 	}
 	
 	/*
@@ -159,10 +445,8 @@ public class EAS {
 			unperformed_jobs.add(j);
 		}
 		
-		Random r = new Random();
-		
 		//choose random starting job
-		int curr_job = r.nextInt(num_jobs);
+		int curr_job = rand.nextInt(num_jobs);
 		unperformed_jobs.remove(curr_job);
 		
 		int best_next_job = curr_job;
@@ -177,7 +461,7 @@ public class EAS {
 			for(int job : unperformed_jobs) {
 				
 				// greedily select for shorter times and larger weights
-				time = smtwtp.getProcessing_times()[job] * (1 / smtwtp.getJobs()[job].getWeight());
+				time = smtwtp.getProcessing_times()[job] * (1 / smtwtp.getWeights()[job]);
 				if(time < best_next_time) {
 					best_next_time = time;
 					best_next_job = job;
@@ -203,165 +487,361 @@ public class EAS {
 	 */
 	public void construct() {		
 		
+		Arrays.fill(is_built, false);
+		
+		if(pool != null) {
+			constructParallel();
+			scoreTours();
+			return;
+		}
+		
 		//construct a workflow for each ant in the hive
 		for (int i = 0; i < num_ants; i++) {
 			
 			//using the probabilistic selection technique
-			hive.getHive()[i].setWorkflow(probSelection());
+			probSelection(hive.getHive()[i], ant_rands[i]);
+			is_built[i] = true;
 			
-			//scores the ants workflow
-			hive.getHive()[i].scoreWorkflow();
+			//scores the ants workflow, improving it first if there is a local search
+			finishTour(hive.getHive()[i], 0);
+			
+			//the remaining ants keep their previous tours once time is up
+			if((i + 1) % DEADLINE_CHECK_ANTS == 0 && stop_condition.checkTime()) {
+				break;
+			}
 
 		}
+		
+		scoreTours();
 
 	}
 	
+	/*
+	 * Purpose: Scores the workflows built in this iteration at once with the batch
+	 * 	scorer, and checks them against the target. Ants that were not built because
+	 * 	time was up keep their previous tour and score (or none yet).
+	 * Parameters: none
+	 * Return: none
+	 * 
+	 */
+	public void scoreTours() {
+		
+		if(scorer == null) {
+			return;
+		}
+		
+		ANT[] ants = hive.getHive();
+		int num_rows = 0;
+		
+		//only the tours built in this iteration are scored, in the rows of their ants
+		for (int i = 0; i < num_ants; i++) {
+			if(is_built[i]) {
+				System.arraycopy(ants[i].getWorkflow(), 0, tours, i * num_jobs, num_jobs);
+				tour_rows[num_rows++] = i;
+			}
+		}
+		
+		scorer.scoreRows(tours, null, null, tour_rows, num_rows, tour_scores);
+		
+		for (int k = 0; k < num_rows; k++) {
+			ANT ant = ants[tour_rows[k]];
+			ant.setWorkflow_score(BATCH_SCORER.toScore(tour_scores[k]));
+			stop_condition.checkScore(ant.getWorkflow_score());
+		}
+	}
+	
+	/*
+	 * Purpose: Constructs and scores the workflows of the ants on the thread pool. The
+	 * 	ants are split into one contiguous block per worker, and each worker uses its
+	 * 	own random generator, so the workers share nothing but the read-only value matrix.
+	 * Parameters: none
+	 * Return: none, sets the workflow for each ant in the hive
+	 * 
+	 */
+	public void constructParallel() {
+		
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(num_threads);
+		
+		for (int t = 0; t < num_threads; t++) {
+			
+			final int worker = t;
+			final int first_ant = (int) ((long) num_ants * t / num_threads);
+			final int last_ant = (int) ((long) num_ants * (t + 1) / num_threads);
+			
+			tasks.add(() -> {
+				for (int i = first_ant; i < last_ant; i++) {
+					probSelection(hive.getHive()[i], ant_rands[i]);
+					is_built[i] = true;
+					finishTour(hive.getHive()[i], worker);
+					
+					if((i - first_ant + 1) % DEADLINE_CHECK_ANTS == 0 && stop_condition.checkTime()) {
+						break;
+					}
+				}
+				return null;
+			});
+		}
+		
+		try {
+			for (Future<Void> result : pool.invokeAll(tasks)) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tour construction was interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Tour construction failed", e.getCause());
+		}
+	}
+	
+	/*
+	 * Purpose: Scores the workflow of an ant, after improving it with the worker's
+	 * 	local search when there is one, and checks the score against the target.
+	 * Parameters: the ant (ANT), and the index of the worker (int)
+	 * Return: none
+	 * 
+	 */
+	public void finishTour(ANT ant, int worker) {
+		
+		if(local_searches != null) {
+			ant.localSearch(local_searches[worker]);
+		}
+		else if(scorer == null) {
+			ant.scoreWorkflow();
+		}
+		else {
+			//scored with the other tours once they are all built
+			return;
+		}
+		
+		//the remaining ants of the iteration are skipped once the target is reached
+		stop_condition.checkScore(ant.getWorkflow_score());
+	}
+	
 	/*
 	 * Purpose: Constructs a workflow for an ant using the probabilistic selection rule
 	 * 	for the general Ant System algorithm. Each leg is assigned a probability based
 	 * 	on the pheromone level of the leg and the heuristic info. The leg is then chosen
-	 * 	randomly based on these probabilities. Finally, it calls the local pheromone
-	 * 	update rule on the constructed tour.
-	 * Parameters: none
-	 * Return: Returns a completed workflow (int[])
+	 * 	randomly based on these probabilities. The unscheduled jobs are kept at the
+	 * 	front of the ant's scratch array, and a scheduled job is removed by swapping the
+	 * 	last unscheduled job into its slot, so building a tour allocates nothing.
+	 * Parameters: the ant whose workflow is built (ANT), the random stream (RandomGenerator)
+	 * Return: none, fills in the workflow of the ant
 	 * 
 	 */
-	public int[] probSelection() {
+	public void probSelection(ANT ant, RandomGenerator rand) {
 		
-		//initialize set with all jobs
-
-		Set<Integer> unperformed_jobs = new HashSet<Integer>();
+		int[] workflow = ant.getWorkflow();
+		int[] unscheduled_jobs = ant.getUnscheduled_jobs();
+		int[] slot_of_job = ant.getSlot_of_job();
+		double[] cumulative_values = ant.getCumulative_values();
+		
+		//initialize the scratch arrays with all jobs
 		for(int i = 0; i < num_jobs; i++) {
-			unperformed_jobs.add(i);
+			unscheduled_jobs[i] = i;
+			slot_of_job[i] = i;
 		}
-		
-		int[] workflow = new int[num_jobs];
-
-		Random r = new Random();
+		int num_unscheduled = num_jobs;
 		
 		//choose random starting job
-		int curr_job = r.nextInt(num_jobs);
-		unperformed_jobs.remove(curr_job);
+		int slot = rand.nextInt(num_jobs);
+		int curr_job = unscheduled_jobs[slot];
+		removeSlot(unscheduled_jobs, slot_of_job, slot, --num_unscheduled);
 		workflow[0] = curr_job;
 				
+		//the scheduled jobs in increasing order, for drawing from the trees without
+		//them, and the cost of a descent of a tree with a binary search at each level
+		int[] scheduled_jobs = ant.getScheduled_jobs();
+		int tree_depth = 32 - Integer.numberOfLeadingZeros(num_jobs);
+		int tree_cost = tree_depth * tree_depth;
+		scheduled_jobs[0] = curr_job;
+		
 		//start each job once
 		for(int i = 1; i < num_jobs; i++) {
 			
-			//calculates the denominator of the probabilistic selection rule
-			double sum_prob = findSumProb(curr_job, unperformed_jobs);
-			//creates an array of probabilities from (0.0, 1.0)
-			double[] prob_array = findProb(curr_job, unperformed_jobs, sum_prob);
-						
-			//generate random double to pick next job, make sure its not 0
-			double prob = r.nextDouble();
-			while(prob == 0.0) {
-				prob = r.nextDouble();
+			slot = -1;
+			
+			//draw from the tree without the i scheduled jobs while adding up their
+			//values and descending the tree costs less than the linear scan adding up
+			//the values of the unscheduled jobs
+			if(sampler != null && i + tree_cost < num_unscheduled) {
+				slot = sampleFromTreeWithout(curr_job, scheduled_jobs, i, slot_of_job, num_unscheduled,
+						cumulative_values, rand);
+			}
+			else if(candidate_list != null) {
+				slot = sampleFromCandidates(curr_job, slot_of_job, num_unscheduled, cumulative_values, rand);
 			}
 			
-			int next_job = curr_job;
-			//finds which job matches the random generated double
-			for(int j = 0; j < num_jobs; j++) {
-				if(prob <= prob_array[j]) {
-					next_job = j;
-					break;
+			if(slot < 0) {
+				
+				//running sums of the numerators, the last one is the denominator
+				double sum_prob = findProb(curr_job, unscheduled_jobs, num_unscheduled, cumulative_values);
+				
+				//generate random value in [0, sum_prob) to pick next job
+				double prob = rand.nextDouble() * sum_prob;
+				
+				//finds which job matches the random generated value, the last job is
+				//used if rounding leaves the value at the very end of the range
+				slot = num_unscheduled - 1;
+				for(int j = 0; j < num_unscheduled; j++) {
+					if(prob < cumulative_values[j]) {
+						slot = j;
+						break;
+					}
 				}
 			}
 			
-			workflow[i] = next_job;
-			unperformed_jobs.remove(next_job);
-			curr_job = next_job;
+			curr_job = unscheduled_jobs[slot];
+			removeSlot(unscheduled_jobs, slot_of_job, slot, --num_unscheduled);
+			workflow[i] = curr_job;
+			
+			if(sampler != null) {
+				insertSorted(scheduled_jobs, i, curr_job);
+			}
 		}
+	}
+	
+	/*
+	 * Purpose: Inserts a job into an array of jobs in increasing order.
+	 * Parameters: the jobs (int[]), the number of jobs in it (int), the job (int)
+	 * Return: none
+	 * 
+	 */
+	public static void insertSorted(int[] jobs, int count, int job) {
 		
-		return workflow;
+		int position = -Arrays.binarySearch(jobs, 0, count, job) - 1;
+		System.arraycopy(jobs, position, jobs, position + 1, count - position);
+		jobs[position] = job;
 	}
 	
 	/*
-	 * Purpose: To calculate the denominator of the probabilistic selection rule. This
-	 * 	is the sum of each ants pheromone^alpha*heuristic^beta.
-	 * Parameters: the current city the ant is at (int), the set of unvisited jobs (Set<Integer>)
-	 * Return: Returns the sum of path values (double)
+	 * Purpose: Removes a job from the unscheduled jobs by moving the last unscheduled
+	 * 	job into its slot. The removed job is left at the old last slot, so its slot is
+	 * 	no longer below the number of unscheduled jobs.
+	 * Parameters: the unscheduled jobs (int[]), the slot of each job (int[]), the slot
+	 * 	to remove (int), and the index of the last unscheduled job (int)
+	 * Return: none
 	 * 
 	 */
-	public double findSumProb(int curr_job, Set<Integer> unperformed_jobs) {
-		double sum_prob = 0.0;
+	public static void removeSlot(int[] unscheduled_jobs, int[] slot_of_job, int slot, int last) {
 		
-		//only sums the jobs that are unvisited
-		for(int job : unperformed_jobs) {
-			
-			//larger index first
-			if(curr_job < job) {
-				sum_prob += smtwtp.getSmtwtp_value()[job][curr_job];
-				
-			} else {
-				sum_prob += smtwtp.getSmtwtp_value()[curr_job][job];
-			
-			}
+		int removed = unscheduled_jobs[slot];
+		int moved = unscheduled_jobs[last];
+		
+		unscheduled_jobs[slot] = moved;
+		slot_of_job[moved] = slot;
+		unscheduled_jobs[last] = removed;
+		slot_of_job[removed] = last;
+	}
+	
+	/*
+	 * Purpose: Draws the next job from the tree of the current job's row as if the
+	 * 	scheduled jobs had been removed from it, so no draw is rejected. The values of
+	 * 	the scheduled jobs are added up in the order of the jobs, and the descent of
+	 * 	the tree takes the scheduled part of every subtree out of its sum, so the draw
+	 * 	is proportional to the values of the unscheduled jobs, like the linear scan.
+	 * 	Rounding may still land a draw on a scheduled job, which is given up.
+	 * Parameters: the current job (int), the scheduled jobs in increasing order
+	 * 	(int[]), the number of scheduled jobs (int), the slot of each job (int[]), the
+	 * 	number of unscheduled jobs (int), the array for the running sums of the values
+	 * 	of the scheduled jobs (double[]), the random stream (RandomGenerator)
+	 * Return: the slot of the drawn job, or -1 if it could not be drawn
+	 * 
+	 */
+	public int sampleFromTreeWithout(int curr_job, int[] scheduled_jobs, int num_scheduled, int[] slot_of_job,
+			int num_unscheduled, double[] scheduled_sums, RandomGenerator rand) {
+		
+		TRIANGULAR_MATRIX value = smtwtp.getSmtwtp_value();
+		int job;
+		
+		//the path from the current job to itself has no value in its row
+		scheduled_sums[0] = 0.0;
+		for(int k = 0; k < num_scheduled; k++) {
+			job = scheduled_jobs[k];
+			scheduled_sums[k + 1] = scheduled_sums[k] + ((job == curr_job) ? 0.0 : value.get(curr_job, job));
 		}
-		return sum_prob;
+		
+		double total = sampler.getRow_total(curr_job) - scheduled_sums[num_scheduled];
+		if(!(total > 0.0)) {
+			return -1;
+		}
+		
+		job = sampler.sampleWithout(curr_job, rand.nextDouble() * total, scheduled_jobs, scheduled_sums,
+				num_scheduled);
+		return (slot_of_job[job] < num_unscheduled) ? slot_of_job[job] : -1;
 	}
 	
 	/*
-	 * Purpose: To create an array of probabilities for each of the paths from the current
-	 * 	job. The array stores the probability of each path + the probability of the path
-	 * 	at the index before it (so with probabilities 0.2, 0.3, 0.5 the array is [0.2, 0.5, 1.0]).
-	 * 	This allows us to generate a random double, which will correspond to a value in the array.
-	 * Parameters: the current job the ant is at (int), the set of unvisited jobs (Set<Integer>),
-	 * 	the denominator of the selection rule (double)
-	 * Return: an array of probabilities from (0.0, 1.0) (double[])
+	 * Purpose: Draws the next job among the unscheduled candidates of the current job,
+	 * 	with probability proportional to their values. The running sums are filled
+	 * 	per candidate, so a scheduled candidate adds an empty range that is never drawn.
+	 * Parameters: the current job (int), the slot of each job (int[]), the number of
+	 * 	unscheduled jobs (int), the array for the running sums (double[]), the random
+	 * 	stream (RandomGenerator)
+	 * Return: the slot of the drawn job, or -1 if no candidate is left to draw
 	 * 
 	 */
-	public double[] findProb(int curr_job, Set<Integer> unperformed_jobs, double sum_prob) {
+	public int sampleFromCandidates(int curr_job, int[] slot_of_job, int num_unscheduled,
+			double[] cumulative_values, RandomGenerator rand) {
 		
-		double[] prob = new double[num_jobs];
+		TRIANGULAR_MATRIX value = smtwtp.getSmtwtp_value();
+		int[] candidates = candidate_list.getCandidates();
+		int num_candidates = candidate_list.getNum_candidates();
+		int base = curr_job * num_candidates;
 		
-		//for each of the jobs
-		for(int i = 0; i < num_jobs-1; i++) {
-			
-			//first element in the array has no previous element
-			if(i == 0) {
-				
-				//if the job is unperformed, set probability
-				if(unperformed_jobs.contains(i)) {
-					
-					if(curr_job < i) {
-						prob[i] = smtwtp.getSmtwtp_value()[i][curr_job] / sum_prob;
-
-					} else {
-						prob[i] = smtwtp.getSmtwtp_value()[curr_job][i] / sum_prob;
-				
-					}
-					
-				//if job is performed, probability is 0.0
-				} else {
-					prob[i] = 0.0;
-				}
-				
-			//if not first element, add previous elements probability
-			} else {
-				
-				//if the job is unperformed, set probability
-				if(unperformed_jobs.contains(i)) {
-					if(curr_job < i) {
-						prob[i] = prob[i-1] + (smtwtp.getSmtwtp_value()[i][curr_job] / sum_prob);
-
-					} else {
-						prob[i] = prob[i-1] + (smtwtp.getSmtwtp_value()[curr_job][i] / sum_prob);
-				
-					}
-				
-				//if job is performed, probability is previous element value
-				} else {
-					prob[i] = prob[i-1];
-				}
-				
-			}			
+		double sum_prob = 0.0;
+		int last = -1;
+		int job;
 		
+		for(int c = 0; c < num_candidates; c++) {
+			job = candidates[base + c];
+			if(slot_of_job[job] < num_unscheduled) {
+				sum_prob += value.get(curr_job, job);
+				last = c;
+			}
+			cumulative_values[c] = sum_prob;
 		}
 		
-		//set last probability to 1.0, so range is from 0.0 to 1.0 
-		prob[num_jobs-1] = 1.0;
+		if(last < 0 || !(sum_prob > 0.0)) {
+			return -1;
+		}
 		
-		return prob;
+		//the last unscheduled candidate is used if rounding leaves the value at the
+		//very end of the range
+		double prob = rand.nextDouble() * sum_prob;
+		for(int c = 0; c < last; c++) {
+			if(prob < cumulative_values[c]) {
+				return slot_of_job[candidates[base + c]];
+			}
+		}
+		return slot_of_job[candidates[base + last]];
+	}
+	
+	/*
+	 * Purpose: To fill the running sums of the numerators of the probabilistic
+	 * 	selection rule (pheromone^alpha*heuristic^beta) for each of the paths from the
+	 * 	current job to an unscheduled job. The value at an index is the numerator of
+	 * 	that job plus every numerator before it (so with values 0.2, 0.3, 0.5 the
+	 * 	array is [0.2, 0.5, 1.0]), and the last running sum is the denominator of
+	 * 	the rule. This allows us to generate a random value up to the denominator,
+	 * 	which will correspond to a value in the array.
+	 * Parameters: the current job the ant is at (int), the unscheduled jobs (int[]),
+	 * 	the number of unscheduled jobs (int), the array to fill (double[])
+	 * Return: the sum of path values (double)
+	 * 
+	 */
+	public double findProb(int curr_job, int[] unscheduled_jobs, int num_unscheduled,
+			double[] cumulative_values) {
+		
+		TRIANGULAR_MATRIX value = smtwtp.getSmtwtp_value();
+		double sum_prob = 0.0;
+		
+		for(int i = 0; i < num_unscheduled; i++) {
+			
+			sum_prob += value.get(curr_job, unscheduled_jobs[i]);
+			cumulative_values[i] = sum_prob;
+		}
+		return sum_prob;
 	}
 	
 	
@@ -375,36 +855,32 @@ public class EAS {
 	 */
 	public void depositPheromone() {
 		
-		int hash_key;
 		double added_pheromone;
 		int job1, job2;
+		int[] workflow;
 		
 		//for each ant
 		for(int i = 0; i < num_ants; i++) {
 			added_pheromone = 0;
+			workflow = hive.getHive()[i].workflow;
 			
 			//for each transition
 			for(int j = 0; j < num_jobs - 1; j++) {
 				
-				//sort the jobs in the workflow
-				if(hive.getHive()[i].workflow[j] < hive.getHive()[i].workflow[j+1]) {
-					job1 = hive.getHive()[i].workflow[j];
-					job2 = hive.getHive()[i].workflow[j+1];
-				} else {
-					job1 = hive.getHive()[i].workflow[j+1];
-					job2 = hive.getHive()[i].workflow[j];
-				}
+				job1 = workflow[j];
+				job2 = workflow[j+1];
 
-				//check for elitism factor by checking hashkey
-				hash_key = (((job1 + job2)*(job1 + job2 + 1)) / 2) + job2;
-				if(transitions_in_best_workflow.contains(hash_key)) {
+				//check for elitism factor with the bsf successors
+				if(isBestTransition(job1, job2)) {
 										
 					//if the transition is in bsf workflow, add more pheromone
-					added_pheromone += elitism_factor * (1/hive.getBest_score_so_far());
+					added_pheromone += elitism_factor * (1/Math.max(1.0, hive.getBest_score_so_far()));
 				}
 				
-				//increase pheromone in leg normally
-				added_pheromone += 1 / hive.getHive()[i].getWorkflow_score();
+				//increase pheromone in leg normally. This is integer division, so only a
+				//score of 1 deposits anything, the max only keeps a workflow without
+				//tardiness from dividing by zero
+				added_pheromone += 1 / Math.max(1, hive.getHive()[i].getWorkflow_score());
 				smtwtp.increasePheromone(job2, job1, added_pheromone);	
 				
 			}
@@ -413,17 +889,14 @@ public class EAS {
 	
 	/*
 	 * Purpose: To generally evaporate pheromone off each leg in the environemnt, 
-	 * 	based on the user inputed value for rho.
+	 * 	based on the user inputed value for rho. The evaporation only updates the
+	 * 	global pheromone scale of the problem, so it does not visit every leg.
 	 * Parameters: none
 	 * Return: none, sets the new pheromone values
 	 * 
 	 */
 	public void evaporatePheromone() {
-		for(int i = 0; i < num_jobs; i++) {
-			for(int j = 0; j < i; j++) {
-				smtwtp.evaporatePheromone(i, j, rho);
-			}
-		}
+		smtwtp.evaporatePheromone(rho);
 	}
 
 	public double getBest_all_time() {
@@ -442,4 +915,80 @@ public class EAS {
 		this.best_workflow = best_workflow;
 	}
 
+	public long getNum_evaluations() {
+		return num_evaluations;
+	}
+
+	public HIVE getHive() {
+		return hive;
+	}
+
+	public SMTWTP getSmtwtp() {
+		return smtwtp;
+	}
+
+	public String getSampling() {
+		return sampling;
+	}
+
+	public void setSeed(long seed) {
+		this.rand = new SplittableRandom(seed);
+	}
+
+	public void setRandom(SplittableRandom rand) {
+		this.rand = rand;
+	}
+
+	public void setSampling(String sampling) {
+		if(!sampling.equals(LINEAR_SAMPLING) && !sampling.equals(TREE_SAMPLING)
+				&& !sampling.equals(CANDIDATE_SAMPLING)) {
+			throw new IllegalArgumentException("Unknown sampling: " + sampling);
+		}
+		this.sampling = sampling;
+	}
+
+	public String getLocal_search() {
+		return local_search;
+	}
+
+	public void setLocal_search(String local_search) {
+		this.local_search = local_search;
+	}
+
+	public String getScoring() {
+		return scoring;
+	}
+
+	public void setScoring(String scoring) {
+		this.scoring = scoring;
+	}
+
+	public STOP_CONDITION getStop_condition() {
+		return stop_condition;
+	}
+
+	public void setStop_condition(STOP_CONDITION stop_condition) {
+		this.stop_condition = stop_condition;
+	}
+
+	public void setTelemetry(TELEMETRY telemetry, String telemetry_source) {
+		this.telemetry = telemetry;
+		this.telemetry_source = telemetry_source;
+		this.step_nanos = new long[TELEMETRY.NUM_STEPS];
+	}
+
+	public void setCheckpoint(Path checkpoint_path, int checkpoint_interval, String checkpoint_algorithm) {
+		this.checkpoint_path = checkpoint_path;
+		this.checkpoint_interval = Math.max(1, checkpoint_interval);
+		this.checkpoint_algorithm = checkpoint_algorithm;
+	}
+
+	public int getNum_threads() {
+		return num_threads;
+	}
+
+	public void setNum_threads(int num_threads) {
+		this.num_threads = Math.max(1, num_threads);
+	}
+
 }
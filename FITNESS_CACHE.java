@@ -0,0 +1,182 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a FITNESS_CACHE object, a bounded table of the scores of
+ * workflows that have already been scored, so that duplicate individuals of the GA
+ * do not have to be scored again.
+ *
+ * Workflows are keyed by a Zobrist hash: the XOR of one random 64 bit key per
+ * (position, job) pair of the workflow. Swapping two jobs or reversing a range only
+ * changes the keys of the positions involved, so an INDIVIDUAL keeps its hash up to
+ * date as it is mutated instead of hashing the whole workflow again. Two different
+ * workflows share a hash with probability about 2^-64, and then the cache returns
+ * the score of the other one.
+ *
+ * The table is open addressing over primitive arrays. A hash is looked for in the
+ * PROBE_LIMIT slots after its home slot. A new hash takes the first empty slot of
+ * that window, or else evicts an entry with the clock (second chance) rule: every
+ * lookup that finds an entry marks it referenced, and the eviction clears the marks
+ * of the window in order until it reaches an entry that was not referenced.
+ *
+ * The chunks of a GA generation may share the table without locking. Each entry
+ * stores its hash XOR its score next to the score, so an entry torn by two threads
+ * writing at once reads as a miss rather than a wrong score.
+ *
+ */
+
+import java.util.Random;
+
+public class FITNESS_CACHE {
+
+	// returned by lookup when the hash is not in the table
+	public static final int MISS = -1;
+
+	public static final int PROBE_LIMIT = 8;
+
+	// seed of the Zobrist keys, so hashes are the same from run to run
+	public static final long ZOBRIST_SEED = 0x5DEECE66DL;
+
+	int num_jobs;
+	// the key of job j at position i is zobrist[i * num_jobs + j]
+	long[] zobrist;
+
+	int capacity;
+	int mask;
+	// hash XOR score of every slot (0 for an empty slot), the score, and the clock mark
+	long[] checks;
+	int[] scores;
+	boolean[] referenced;
+
+	/* Purpose: Initialize an empty FITNESS_CACHE object
+	 * Parameters: The number of jobs and the number of entries, rounded up to a power
+	 * of two
+	 * Return: N/A
+	 */
+	public FITNESS_CACHE(int num_jobs, int capacity) {
+
+		this.num_jobs = num_jobs;
+		this.zobrist = new long[num_jobs * num_jobs];
+
+		Random rand = new Random(ZOBRIST_SEED);
+		for (int i = 0; i < zobrist.length; i++) {
+			zobrist[i] = rand.nextLong();
+		}
+
+		this.capacity = Math.max(PROBE_LIMIT, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+		this.mask = this.capacity - 1;
+		this.checks = new long[this.capacity];
+		this.scores = new int[this.capacity];
+		this.referenced = new boolean[this.capacity];
+	}
+
+	/* Purpose: Hash a whole workflow
+	 * Parameters: The workflow
+	 * Return: The Zobrist hash
+	 */
+	public long hash(int[] workflow) {
+
+		long hash = 0;
+		for (int i = 0; i < num_jobs; i++) {
+			hash ^= zobrist[i * num_jobs + workflow[i]];
+		}
+		return hash;
+	}
+
+	/* Purpose: Find the key of a job at a position, for updating a hash
+	 * Parameters: The position and the job
+	 * Return: The key
+	 */
+	public long key(int position, int job) {
+		return zobrist[position * num_jobs + job];
+	}
+
+	/* Purpose: Keep 0 free to mark empty slots
+	 * Parameters: A hash
+	 * Return: The hash, or 1 if it is 0
+	 */
+	public static long nonZero(long hash) {
+		return (hash == 0) ? 1 : hash;
+	}
+
+	/* Purpose: Look for the score of a workflow
+	 * Parameters: The hash of the workflow
+	 * Return: The score, or MISS
+	 */
+	public int lookup(long hash) {
+
+		int slot;
+		long check;
+		int score;
+
+		hash = nonZero(hash);
+
+		for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+
+			slot = (home(hash) + probe) & mask;
+			check = checks[slot];
+			score = scores[slot];
+
+			if (check == 0) {
+				return MISS;
+			}
+			if ((check ^ score) == hash) {
+				referenced[slot] = true;
+				return score;
+			}
+		}
+		return MISS;
+	}
+
+	/* Purpose: Add the score of a workflow, evicting an entry of the probe window if
+	 * the window is full
+	 * Parameters: The hash of the workflow and its score
+	 * Return: None
+	 */
+	public void store(long hash, int score) {
+
+		hash = nonZero(hash);
+		int start = home(hash);
+		int slot = -1;
+
+		// an empty slot, or the slot already holding the hash
+		for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+			int candidate = (start + probe) & mask;
+			if (checks[candidate] == 0 || (checks[candidate] ^ scores[candidate]) == hash) {
+				slot = candidate;
+				break;
+			}
+		}
+
+		// otherwise give every referenced entry a second chance
+		for (int probe = 0; slot < 0; probe = (probe + 1) % PROBE_LIMIT) {
+			int candidate = (start + probe) & mask;
+			if (referenced[candidate]) {
+				referenced[candidate] = false;
+			} else {
+				slot = candidate;
+			}
+		}
+
+		scores[slot] = score;
+		checks[slot] = hash ^ score;
+		referenced[slot] = false;
+	}
+
+	/* Purpose: Find the home slot of a hash. The keys are random, so the low bits of
+	 * a hash are already uniform.
+	 * Parameters: The hash
+	 * Return: The slot
+	 */
+	public int home(long hash) {
+		return (int) hash & mask;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
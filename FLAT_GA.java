@@ -0,0 +1,746 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a Genetic Algorithm that breeds the same way as GA (tournament
+ * selection, Order One Crossover, Range Reversal and General Swap mutation, and the
+ * optional local search), but that allocates nothing once its population has been
+ * created. GA allocates a new population, new INDIVIDUAL objects, and hash sets for
+ * every generation, which keeps the garbage collector busy on long runs.
+ *
+ * The population is kept in two generations of flat arrays: the workflows, the
+ * completion times, and the weighted tardiness of individual i are at positions
+ * i * num_jobs to (i + 1) * num_jobs - 1, next to an array of scores. Each generation
+ * is bred from the current arrays into the other ones, and then the two are swapped.
+ * Crossover remembers which jobs a child already holds with an array of marks: a job
+ * is in the child when its mark equals the epoch of the child, and every child
+ * takes a new epoch, so the marks never have to be cleared.
+ *
+ * Mutated copies of a parent are rescored incrementally, and only children of a
+ * crossover are scored in full. Each chunk of a generation has its own random
+ * generator, seeded from the GA's random stream in chunk order exactly like GA, so a
+ * FLAT_GA and a GA with the same seed and number of threads breed the same
+ * generations. With several threads only the futures of the fork-join pool are
+ * allocated. A FLAT_GA is not checkpointed and has no score cache.
+ *
+ * With a scoring backend (see BATCH_SCORER), the children of a chunk that need a
+ * full scoring are collected into a list of rows and scored together, in longs,
+ * after the chunk has been mutated.
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class FLAT_GA {
+
+	// the GA parameters, like GA
+	public int population_size;
+	public double mutation_prob;
+	public int max_generations;
+	public double crossover_prob;
+	public int num_jobs;
+
+	public SMTWTP smtwtp;
+	int[] job_data;
+
+	// the two generations of workflows, completion times, weighted tardiness, and
+	// scores, and which of them is the current population
+	int[][] workflows;
+	int[][] completion_times;
+	int[][] tardiness;
+	int[][] scores;
+	int current;
+
+	// whether each child of the generation being bred has been scored
+	boolean[] is_scored;
+
+	// the best workflow found so far and its score
+	public int best_score;
+	public int[] best_workflow;
+
+	// seeds the random generators of the chunks of each generation
+	SplittableRandom rand;
+
+	// number of threads, the chunks of each generation, and the pool running them
+	public int num_threads;
+	int num_chunks;
+	int[] chunk_start;
+	Random[] chunk_rands;
+	int[] chunk_best;
+	int[] chunk_evaluations;
+	List<Callable<Void>> chunk_tasks;
+	ForkJoinPool pool;
+
+	// the crossover marks of each chunk and the epoch of its last child
+	int[][] marks;
+	int[] epochs;
+
+	// the batch scoring backend (null to score row by row), and the scorer, the rows
+	// to score, and their scores of each chunk
+	String scoring;
+	BATCH_SCORER[] chunk_scorers;
+	int[][] chunk_rows;
+	long[][] chunk_scores;
+
+	// number of complete workflow scorings, incremental rescoring is not counted
+	public long num_evaluations;
+
+	// neighborhood of the local search applied to every offspring (null for none),
+	// and one local search with a row to search in per chunk
+	public String local_search;
+	LOCAL_SEARCH[] local_searches;
+	int[][] search_workflows;
+	int[][] search_completion_times;
+	int[][] search_tardiness;
+
+	// time limit and target score of the run
+	STOP_CONDITION stop_condition;
+
+	// records of every generation (null for none), the name of the run in them, the
+	// nanoseconds each chunk spent in each step and their sum, and the generations bred
+	TELEMETRY telemetry;
+	String telemetry_source;
+	long[][] chunk_nanos;
+	long[] nanos;
+	int num_generations_run;
+
+	public FLAT_GA(int population_size, double mutation_prob, int max_generations, double crossover_prob) {
+
+		this.population_size = population_size;
+		this.mutation_prob = mutation_prob;
+		this.max_generations = max_generations;
+		this.crossover_prob = crossover_prob;
+		this.rand = new SplittableRandom();
+		this.num_threads = 1;
+		this.stop_condition = STOP_CONDITION.never();
+	}
+
+	/*
+	 * Purpose: The main algorithm, breeding generations until the last one or until
+	 * the stop condition is met
+	 * Parameters: A 2d integer array of initial workflows, the smtwtp problem object
+	 * Return: The best workflow found, its score is kept in best_score
+	 */
+	public int[] RunGA(int[][] initial_workflows, SMTWTP smtwtp) {
+
+		initializePopulation(initial_workflows, smtwtp);
+
+		if (num_chunks > 1) {
+			pool = new ForkJoinPool(num_threads);
+		}
+
+		try {
+			while (num_generations_run < max_generations && !checkStop()) {
+				runGeneration();
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdown();
+				pool = null;
+			}
+		}
+		return best_workflow;
+	}
+
+	/*
+	 * Purpose: Allocates both generations and the scratch arrays of every chunk, and
+	 * copies in and scores the initial workflows
+	 * Parameters: A 2d integer array of initial workflows, the smtwtp problem object
+	 * Return: none
+	 */
+	public void initializePopulation(int[][] initial_workflows, SMTWTP smtwtp) {
+
+		this.smtwtp = smtwtp;
+		this.num_jobs = smtwtp.getNum_jobs();
+		this.job_data = smtwtp.getJob_data();
+		this.population_size = initial_workflows.length;
+		this.num_generations_run = 0;
+
+		int length = population_size * num_jobs;
+
+		workflows = new int[2][length];
+		completion_times = new int[2][length];
+		tardiness = new int[2][length];
+		scores = new int[2][population_size];
+		is_scored = new boolean[population_size];
+		current = 0;
+
+		best_score = Integer.MAX_VALUE;
+		best_workflow = new int[num_jobs];
+
+		for (int i = 0; i < population_size; i++) {
+			System.arraycopy(initial_workflows[i], 0, workflows[current], i * num_jobs, num_jobs);
+		}
+
+		initializeChunks();
+
+		if (chunk_scorers != null) {
+			int[] rows = new int[population_size];
+			long[] row_scores = new long[population_size];
+			for (int i = 0; i < population_size; i++) {
+				rows[i] = i;
+			}
+			chunk_scorers[0].scoreRows(workflows[current], completion_times[current], tardiness[current], rows,
+					population_size, row_scores);
+			for (int i = 0; i < population_size; i++) {
+				scores[current][i] = BATCH_SCORER.toScore(row_scores[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < population_size; i++) {
+				scores[current][i] = scoreRow(current, i);
+			}
+		}
+
+		for (int i = 0; i < population_size; i++) {
+			keepIfBest(current, i);
+		}
+		num_evaluations += population_size;
+	}
+
+	/*
+	 * Purpose: Splits the population into chunks of whole pairs of children, like GA,
+	 * and allocates what each chunk needs to breed
+	 * Parameters: none
+	 * Return: none
+	 */
+	public void initializeChunks() {
+
+		num_chunks = Math.max(1, Math.min(num_threads, population_size / 2));
+		int num_pairs = (population_size + 1) / 2;
+
+		chunk_start = new int[num_chunks + 1];
+		chunk_rands = new Random[num_chunks];
+		chunk_best = new int[num_chunks];
+		chunk_evaluations = new int[num_chunks];
+		marks = new int[num_chunks][num_jobs];
+		epochs = new int[num_chunks];
+		chunk_tasks = new ArrayList<Callable<Void>>(num_chunks);
+
+		for (int c = 0; c < num_chunks; c++) {
+			final int chunk = c;
+			chunk_start[c] = 2 * (num_pairs * c / num_chunks);
+			chunk_rands[c] = new Random();
+			chunk_tasks.add(() -> {
+				chunk_best[chunk] = breedChunk(chunk);
+				return null;
+			});
+		}
+		chunk_start[num_chunks] = population_size;
+
+		if (local_search != null) {
+			local_searches = new LOCAL_SEARCH[num_chunks];
+			search_workflows = new int[num_chunks][num_jobs];
+			search_completion_times = new int[num_chunks][num_jobs];
+			search_tardiness = new int[num_chunks][num_jobs];
+
+			for (int c = 0; c < num_chunks; c++) {
+				local_searches[c] = new LOCAL_SEARCH(smtwtp, local_search);
+			}
+		}
+
+		if (scoring != null) {
+			chunk_scorers = new BATCH_SCORER[num_chunks];
+			chunk_rows = new int[num_chunks][];
+			chunk_scores = new long[num_chunks][];
+
+			for (int c = 0; c < num_chunks; c++) {
+				int chunk_size = chunk_start[c + 1] - chunk_start[c];
+				chunk_scorers[c] = BATCH_SCORER.create(smtwtp, scoring);
+				chunk_rows[c] = new int[chunk_size];
+				chunk_scores[c] = new long[chunk_size];
+			}
+		}
+
+		if (telemetry != null) {
+			chunk_nanos = new long[num_chunks][TELEMETRY.NUM_STEPS];
+			nanos = new long[TELEMETRY.NUM_STEPS];
+		}
+	}
+
+	/*
+	 * Purpose: Breeds the next generation into the other arrays, on the pool when
+	 * there is one, then makes it the current population and updates the best so far
+	 * Parameters: none
+	 * Return: none
+	 */
+	public void runGeneration() {
+
+		// seeded in chunk order so the generation does not depend on scheduling
+		for (int c = 0; c < num_chunks; c++) {
+			chunk_rands[c].setSeed(rand.nextLong());
+			chunk_evaluations[c] = 0;
+		}
+
+		if (pool == null) {
+			for (int c = 0; c < num_chunks; c++) {
+				chunk_best[c] = breedChunk(c);
+			}
+		}
+		else {
+			for (Future<Void> result : pool.invokeAll(chunk_tasks)) {
+				try {
+					result.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("The generation was interrupted", e);
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Breeding a chunk failed", e.getCause());
+				}
+			}
+		}
+
+		current = 1 - current;
+
+		// reduce the best of each chunk, in chunk order so ties are broken the same way
+		for (int c = 0; c < num_chunks; c++) {
+			num_evaluations += chunk_evaluations[c];
+			keepIfBest(current, chunk_best[c]);
+		}
+		num_generations_run++;
+
+		if (telemetry != null) {
+			recordGeneration();
+		}
+	}
+
+	/*
+	 * Purpose: Breeds the children of one chunk from the current population, mutates
+	 * them, and scores them
+	 * Parameters: The index of the chunk
+	 * Return: The index of the best child of the chunk
+	 */
+	public int breedChunk(int chunk) {
+
+		Random chunk_rand = chunk_rands[chunk];
+		int start = chunk_start[chunk];
+		int end = chunk_start[chunk + 1];
+		int next = 1 - current;
+		int parent1, parent2;
+
+		// the steps are only timed for the telemetry
+		long[] step_nanos = (telemetry != null) ? chunk_nanos[chunk] : null;
+		long step_start = (step_nanos != null) ? System.nanoTime() : 0;
+
+		for (int count = start; count < end; count += 2) {
+
+			// select parents for breeding
+			parent1 = selectParent(chunk_rand);
+			parent2 = selectParent(chunk_rand);
+
+			// the second child only exists if there is room for it in the chunk
+			int second = (count + 1 < end) ? count + 1 : -1;
+
+			// perform crossover with some probability, otherwise copy the parents
+			if (chunk_rand.nextDouble() < crossover_prob) {
+				int cut_point = chunk_rand.nextInt(num_jobs);
+				orderOneCrossover(chunk, parent1, parent2, count, cut_point);
+				if (second >= 0) {
+					orderOneCrossover(chunk, parent2, parent1, second, cut_point);
+				}
+			}
+			else {
+				copyParent(parent1, count);
+				if (second >= 0) {
+					copyParent(parent2, second);
+				}
+			}
+		}
+
+		if (step_nanos != null) {
+			step_nanos[TELEMETRY.CROSSOVER] = System.nanoTime() - step_start;
+			step_start = System.nanoTime();
+		}
+
+		mutation(start, end, chunk_rand);
+
+		if (step_nanos != null) {
+			step_nanos[TELEMETRY.MUTATION] = System.nanoTime() - step_start;
+			step_start = System.nanoTime();
+		}
+
+		if (chunk_scorers != null) {
+			scoreChunk(chunk, next, start, end);
+		}
+
+		int best = start;
+
+		for (int i = start; i < end; i++) {
+			if (!is_scored[i]) {
+				scores[next][i] = scoreRow(next, i);
+				chunk_evaluations[chunk]++;
+			}
+			if (local_searches != null && !stop_condition.checkTime()) {
+				searchRow(chunk, next, i);
+			}
+			if (scores[next][i] < scores[next][best]) {
+				best = i;
+			}
+		}
+
+		if (step_nanos != null) {
+			step_nanos[TELEMETRY.SEARCH] = System.nanoTime() - step_start;
+		}
+		return best;
+	}
+
+	/*
+	 * Purpose: Tournament selection of one parent from the current population: two
+	 * different individuals are drawn and the one with the lower score wins, the
+	 * second one on a tie, like GA
+	 * Parameters: A random generator
+	 * Return: The index of the parent
+	 */
+	public int selectParent(Random rand) {
+
+		int index1, index2;
+		int[] current_scores = scores[current];
+
+		do {
+			index1 = (int) (population_size * rand.nextDouble());
+			index2 = (int) (population_size * rand.nextDouble());
+		} while (index1 == index2);
+
+		return (current_scores[index1] < current_scores[index2]) ? index1 : index2;
+	}
+
+	/*
+	 * Purpose: Order One Crossover into one child of the next generation: the jobs of
+	 * the first parent up to the cut point, then the remaining jobs in the order of
+	 * the second parent
+	 * Parameters: The index of the chunk, the first and second parent, the index of
+	 * the child, and the cut point
+	 * Return: none
+	 */
+	public void orderOneCrossover(int chunk, int parent1, int parent2, int child, int cut_point) {
+
+		int[] from = workflows[current];
+		int[] to = workflows[1 - current];
+		int[] mark = marks[chunk];
+		int epoch = nextEpoch(chunk);
+
+		int first = parent1 * num_jobs;
+		int second = parent2 * num_jobs;
+		int base = child * num_jobs;
+		int job;
+
+		// fill the beginning of the child up to the cut point
+		for (int i = 0; i < cut_point; i++) {
+			job = from[first + i];
+			to[base + i] = job;
+			mark[job] = epoch;
+		}
+
+		// fill the remainder of the child
+		int curr = cut_point;
+		for (int index = 0; curr < num_jobs && index < num_jobs; index++) {
+			job = from[second + index];
+			if (mark[job] != epoch) {
+				to[base + curr] = job;
+				mark[job] = epoch;
+				curr++;
+			}
+		}
+		is_scored[child] = false;
+	}
+
+	/*
+	 * Purpose: Start a new child of a chunk, a job is in the child when its mark
+	 * equals the new epoch. The marks are only cleared when the epochs run out.
+	 * Parameters: The index of the chunk
+	 * Return: The new epoch
+	 */
+	public int nextEpoch(int chunk) {
+
+		if (epochs[chunk] == Integer.MAX_VALUE) {
+			Arrays.fill(marks[chunk], 0);
+			epochs[chunk] = 0;
+		}
+		return ++epochs[chunk];
+	}
+
+	/*
+	 * Purpose: Copies a parent, with its completion times and score, into a child of
+	 * the next generation
+	 * Parameters: The index of the parent and of the child
+	 * Return: none
+	 */
+	public void copyParent(int parent, int child) {
+
+		int next = 1 - current;
+
+		System.arraycopy(workflows[current], parent * num_jobs, workflows[next], child * num_jobs, num_jobs);
+		System.arraycopy(completion_times[current], parent * num_jobs, completion_times[next], child * num_jobs,
+				num_jobs);
+		System.arraycopy(tardiness[current], parent * num_jobs, tardiness[next], child * num_jobs, num_jobs);
+		scores[next][child] = scores[current][parent];
+		is_scored[child] = true;
+	}
+
+	/*
+	 * Purpose: With some probability, performs Range Reversal and General Swap
+	 * mutation on the children from start to end (exclusive), like GA. Scored
+	 * children are rescored only inside the changed window.
+	 * Parameters: The first and last (exclusive) child, a random generator
+	 * Return: none
+	 */
+	public void mutation(int start, int end, Random rand) {
+
+		int next = 1 - current;
+		int[] workflow = workflows[next];
+		int mutate1, mutate2;
+
+		for (int i = start; i < end; i++) {
+
+			int base = i * num_jobs;
+
+			// reverse the order of a range of 2 to 4 jobs
+			if (rand.nextDouble() < mutation_prob) {
+
+				int range_size = rand.nextInt(3) + 2;
+				int starting_index = rand.nextInt(num_jobs - range_size);
+				int last_index = starting_index + range_size - 1;
+
+				for (int j = base + starting_index, k = base + last_index; j < k; j++, k--) {
+					swap(workflow, j, k);
+				}
+				if (is_scored[i]) {
+					rescoreRow(next, i, starting_index, last_index);
+				}
+			}
+
+			// swap the jobs at two positions
+			if (rand.nextDouble() < mutation_prob) {
+
+				mutate1 = rand.nextInt(num_jobs);
+				mutate2 = rand.nextInt(num_jobs);
+
+				swap(workflow, base + mutate1, base + mutate2);
+				if (is_scored[i] && mutate1 != mutate2) {
+					rescoreRow(next, i, Math.min(mutate1, mutate2), Math.max(mutate1, mutate2));
+				}
+			}
+		}
+	}
+
+	/*
+	 * Purpose: Score a whole individual of a generation, filling in its completion
+	 * times and weighted tardiness
+	 * Parameters: The generation and the index of the individual
+	 * Return: The score
+	 */
+	public int scoreRow(int generation, int individual) {
+
+		int base = individual * num_jobs;
+
+		is_scored[individual] = true;
+		return SMTWTP.scoreWindow(workflows[generation], base, base + num_jobs - 1, 0, job_data,
+				completion_times[generation], tardiness[generation]);
+	}
+
+	/*
+	 * Purpose: Score the children of a chunk that have not been scored with the
+	 * scorer of the chunk, all at once, filling in their completion times and
+	 * weighted tardiness
+	 * Parameters: The index of the chunk, the generation, and the first and one past
+	 * the last individual of the chunk
+	 * Return: none
+	 */
+	public void scoreChunk(int chunk, int generation, int start, int end) {
+
+		int[] rows = chunk_rows[chunk];
+		long[] row_scores = chunk_scores[chunk];
+		int num_rows = 0;
+
+		for (int i = start; i < end; i++) {
+			if (!is_scored[i]) {
+				rows[num_rows++] = i;
+			}
+		}
+
+		chunk_scorers[chunk].scoreRows(workflows[generation], completion_times[generation], tardiness[generation],
+				rows, num_rows, row_scores);
+
+		for (int k = 0; k < num_rows; k++) {
+			scores[generation][rows[k]] = BATCH_SCORER.toScore(row_scores[k]);
+			is_scored[rows[k]] = true;
+		}
+		chunk_evaluations[chunk] += num_rows;
+	}
+
+	/*
+	 * Purpose: Rescore only the positions from start to end (inclusive) of an
+	 * individual, like INDIVIDUAL.rescoreWindow
+	 * Parameters: The generation, the index of the individual, and the first and last
+	 * position of the changed window
+	 * Return: none
+	 */
+	public void rescoreRow(int generation, int individual, int start, int end) {
+
+		int base = individual * num_jobs;
+		int[] row_tardiness = tardiness[generation];
+		int time_so_far = (start == 0) ? 0 : completion_times[generation][base + start - 1];
+		int old_window_score = 0;
+
+		for (int i = base + start; i <= base + end; i++) {
+			old_window_score += row_tardiness[i];
+		}
+
+		scores[generation][individual] += SMTWTP.scoreWindow(workflows[generation], base + start, base + end,
+				time_so_far, job_data, completion_times[generation], row_tardiness) - old_window_score;
+	}
+
+	/*
+	 * Purpose: Apply the local search of a chunk to an individual, through the search
+	 * row of the chunk since a local search works on whole arrays
+	 * Parameters: The index of the chunk, the generation, and the index of the individual
+	 * Return: none
+	 */
+	public void searchRow(int chunk, int generation, int individual) {
+
+		int base = individual * num_jobs;
+		int[] workflow = search_workflows[chunk];
+		int[] row_completion_times = search_completion_times[chunk];
+		int[] row_tardiness = search_tardiness[chunk];
+
+		System.arraycopy(workflows[generation], base, workflow, 0, num_jobs);
+		System.arraycopy(completion_times[generation], base, row_completion_times, 0, num_jobs);
+		System.arraycopy(tardiness[generation], base, row_tardiness, 0, num_jobs);
+
+		scores[generation][individual] = local_searches[chunk].improve(workflow, row_completion_times,
+				row_tardiness, scores[generation][individual]);
+
+		System.arraycopy(workflow, 0, workflows[generation], base, num_jobs);
+		System.arraycopy(row_completion_times, 0, completion_times[generation], base, num_jobs);
+		System.arraycopy(row_tardiness, 0, tardiness[generation], base, num_jobs);
+	}
+
+	/*
+	 * Purpose: Keeps an individual if it beats the best so far
+	 * Parameters: The generation and the index of the individual
+	 * Return: none
+	 */
+	public void keepIfBest(int generation, int individual) {
+
+		if (scores[generation][individual] < best_score) {
+			best_score = scores[generation][individual];
+			System.arraycopy(workflows[generation], individual * num_jobs, best_workflow, 0, num_jobs);
+		}
+	}
+
+	/*
+	 * Purpose: Checks the best so far against the target score and the clock against
+	 * the time limit
+	 * Parameters: none
+	 * Return: Whether the run should stop
+	 */
+	public boolean checkStop() {
+
+		stop_condition.checkScore(best_score);
+		return stop_condition.checkTime();
+	}
+
+	/*
+	 * Purpose: Adds a record of the generation just bred to the telemetry, like GA
+	 * Parameters: none
+	 * Return: none
+	 */
+	public void recordGeneration() {
+
+		Arrays.fill(nanos, 0);
+		for (int c = 0; c < num_chunks; c++) {
+			for (int step = 0; step < TELEMETRY.NUM_STEPS; step++) {
+				nanos[step] += chunk_nanos[c][step];
+			}
+		}
+
+		int[] workflow = workflows[current];
+		double total_score = 0.0;
+		long differences = 0;
+
+		for (int i = 0; i < population_size; i++) {
+			total_score += scores[current][i];
+			for (int j = 0; j < num_jobs; j++) {
+				if (workflow[i * num_jobs + j] != best_workflow[j]) {
+					differences++;
+				}
+			}
+		}
+
+		telemetry.record(telemetry_source, num_generations_run, best_score, total_score / population_size,
+				num_evaluations, (double) differences / ((long) population_size * num_jobs), nanos);
+	}
+
+	/*
+	 * Purpose: Swap two values of an array
+	 * Parameters: The array and the two indices
+	 * Return: none
+	 */
+	public static void swap(int[] values, int index1, int index2) {
+
+		int temp = values[index1];
+		values[index1] = values[index2];
+		values[index2] = temp;
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+
+	public void setSeed(long seed) {
+		this.rand = new SplittableRandom(seed);
+	}
+
+	public void setRandom(SplittableRandom rand) {
+		this.rand = rand;
+	}
+
+	public void setNum_threads(int num_threads) {
+		this.num_threads = Math.max(1, num_threads);
+	}
+
+	public void setLocal_search(String local_search) {
+		this.local_search = local_search;
+	}
+
+	public void setStop_condition(STOP_CONDITION stop_condition) {
+		this.stop_condition = stop_condition;
+	}
+
+	public void setScoring(String scoring) {
+		this.scoring = scoring;
+	}
+
+	public void setTelemetry(TELEMETRY telemetry, String telemetry_source) {
+		this.telemetry = telemetry;
+		this.telemetry_source = telemetry_source;
+	}
+
+	public long getNum_evaluations() {
+		return num_evaluations;
+	}
+
+	public int getBest_score() {
+		return best_score;
+	}
+
+	public int[] getBest_workflow() {
+		return best_workflow;
+	}
+
+	public int getScore(int individual) {
+		return scores[current][individual];
+	}
+
+	public int[] getWorkflows() {
+		return workflows[current];
+	}
+
+}
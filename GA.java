@@ -12,11 +12,52 @@
  * Order One Crossover, and two types of mutation, General Swap and Range
  * Reversal, may be performed on the new population. 
  * 
+ * Each generation is bred in independent chunks of the new population. A chunk
+ * selects parents from the previous population only and draws from its own random
+ * generator, seeded from the GA's random stream in chunk order, so the chunks can run
+ * on a fork-join pool and a seeded run gives the same result for the same number
+ * of threads.
+ * 
+ * A local search (see LOCAL_SEARCH) may be applied to every offspring after it is
+ * mutated and scored, with one local search per chunk.
+ * 
+ * A run also stops, keeping its best so far, when its STOP_CONDITION is met. It is
+ * checked after every generation, and the local search of the offspring is skipped
+ * once time is up.
+ * 
+ * With a TELEMETRY, the crossover, mutation, and local search of every chunk are
+ * timed, and every generation is recorded along with the best and mean scores and the
+ * diversity of the population.
+ * 
+ * With a checkpoint path, the population is written to a snapshot (see CHECKPOINT)
+ * every checkpoint_interval generations and when the run finishes, and a run whose
+ * snapshot already exists resumes from it.
+ * 
+ * With a FITNESS_CACHE, offspring that are not scored are first looked for by the
+ * hash of their workflow, since a converging population breeds many duplicates. A
+ * hit takes the cached score without scoring the workflow, so the individual is left
+ * without its completion times and is scored in full if it is later mutated into a
+ * new workflow. The cache is not used when a local search is applied, since the
+ * local search needs the completion times of every offspring.
+ * 
  */
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
 
 public class GA {
 		
@@ -34,6 +75,50 @@ public class GA {
     public INDIVIDUAL[] population;
     public SMTWTP smtwtp;
     
+    // the best workflow found so far and its score
+    public int best_score;
+    public int[] best_workflow;
+    
+    // seeds the random generators of the chunks of each generation
+    SplittableRandom rand;
+    
+    // number of threads, and chunks of each generation, and the pool running them
+    public int num_threads;
+    ForkJoinPool pool;
+    
+    // number of complete workflow scorings, incremental rescoring is not counted
+    public long num_evaluations;
+    
+    // neighborhood of the local search applied to every offspring (null for none),
+    // and one local search per chunk
+    public String local_search;
+    LOCAL_SEARCH[] local_searches;
+    
+    // time limit and target score of the run
+    STOP_CONDITION stop_condition;
+    
+    // records of every generation (null for none), the name of the run in them, the
+    // nanoseconds each chunk spent in each step, and the generations bred
+    TELEMETRY telemetry;
+    String telemetry_source;
+    long[][] chunk_nanos;
+    int num_generations_run;
+    
+    // snapshot of the run (null for none), and generations between snapshots
+    Path checkpoint_path;
+    int checkpoint_interval;
+    // algorithm the run is part of, which is part of the fingerprint of its snapshots
+    String checkpoint_algorithm;
+    
+    // entries of the score cache (0 for none), the cache, and the lookups and hits of
+    // the run, with the lookups and hits of each chunk of the current generation
+    int cache_capacity;
+    FITNESS_CACHE fitness_cache;
+    long cache_lookups;
+    long cache_hits;
+    int[] chunk_lookups;
+    int[] chunk_hits;
+    
     
     public GA(int population_size, double mutation_prob, int max_generations, double crossover_prob) {
     	
@@ -41,95 +126,403 @@ public class GA {
     	this.mutation_prob = mutation_prob;
     	this.max_generations = max_generations;
     	this.crossover_prob = crossover_prob;
+    	this.rand = new SplittableRandom();
+    	this.num_threads = 1;
+    	this.stop_condition = STOP_CONDITION.never();
     }
 
 	/*
 	 * Purpose: The main algorithm of the GA. It iteratively selects a breeding pool,
-	 * performs crossover, and mutates offspring.
+	 * performs crossover, and mutates offspring, until the last generation or until
+	 * the stop condition is met.
 	 * Parameters: A 2d integer array of initial workflows, the smtwtp problem object
-	 * Return: none, prints the best so far in each iteration
+	 * Return: The best workflow found, its score is kept in best_score
 	 * 
 	 */
-	public void RunGA(int[][] workflows, SMTWTP smtwtp) {
+	public int[] RunGA(int[][] workflows, SMTWTP smtwtp) {
 		
-		Random rand = new Random();
+		initializePopulation(workflows, smtwtp);
 		
-		INDIVIDUAL[] parents = new INDIVIDUAL[2];
-		INDIVIDUAL[] children = new INDIVIDUAL[2];
-		INDIVIDUAL[] new_population;
+		if (num_threads > 1) {
+			pool = new ForkJoinPool(num_threads);
+		}
+		
+		try {
+			// continue from the snapshot of an interrupted run
+			if (checkpoint_path != null && Files.exists(checkpoint_path)) {
+				CHECKPOINT.readGA(checkpoint_path, this);
+			}
+			
+			// for each generation
+			while (num_generations_run < max_generations && !checkStop()) {
+				runGeneration();
+				
+				if (checkpoint_path != null && !stop_condition.isStopped()
+						&& (num_generations_run % checkpoint_interval == 0 || num_generations_run == max_generations)) {
+					CHECKPOINT.writeGA(checkpoint_path, this);
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not use the checkpoint " + checkpoint_path, e);
+		} finally {
+			if (pool != null) {
+				pool.shutdown();
+				pool = null;
+			}
+		}
+		return best_workflow;
+	}
+	
+	/*
+	 * Purpose: Creates and scores the initial individuals and finds the best of them
+	 * Parameters: A 2d integer array of initial workflows, the smtwtp problem object
+	 * Return: none
+	 * 
+	 */
+	public void initializePopulation(int[][] workflows, SMTWTP smtwtp) {
 		
 		this.smtwtp = smtwtp;
 		this.num_jobs = smtwtp.getNum_jobs();
 		this.population_size = workflows.length;	
 		population = new INDIVIDUAL[population_size];
+		num_generations_run = 0;
 		
 		// create the initial individuals
 		for (int i = 0; i < population_size; i++) {
 			population[i] = new INDIVIDUAL(num_jobs, smtwtp, workflows[i]);
 			population[i].scoreWorkflow();
 		}
+		num_evaluations += population_size;
 		
-		int best_score = Integer.MAX_VALUE;
-		int[] best_workflow = new int[num_jobs];
+		if (cache_capacity > 0) {
+			fitness_cache = new FITNESS_CACHE(num_jobs, cache_capacity);
+			for (int i = 0; i < population_size; i++) {
+				fitness_cache.store(population[i].getHash(fitness_cache), population[i].getWorkflow_score());
+			}
+		}
+		
+		best_score = Integer.MAX_VALUE;
+		best_workflow = new int[num_jobs];
 		
 		// find the best member of the inital populaiton
-		for (int i = 0; i < population_size; i++) {
-			if (population[i].getWorkflow_score() < best_score) {
-				best_score = population[i].getWorkflow_score();
-				best_workflow = population[i].getWorkflow().clone();
+		updateBest();
+	}
+	
+	/*
+	 * Purpose: Breeds the next generation: selects parents, performs crossover with
+	 * some probability, mutates the offspring, and scores them. The new population is
+	 * split into num_threads chunks that are bred independently, on the pool when
+	 * there is one, and the best offspring is found from the best of each chunk.
+	 * Parameters: none
+	 * Return: none, replaces the population and updates the best so far
+	 * 
+	 */
+	public void runGeneration() {
+		
+		INDIVIDUAL[] new_population = new INDIVIDUAL[population_size];
+		
+		int num_chunks = Math.max(1, Math.min(num_threads, population_size / 2));
+		int num_pairs = (population_size + 1) / 2;
+		
+		// every chunk covers whole pairs of children and gets its own generator,
+		// seeded in chunk order so the generation does not depend on scheduling
+		int[] chunk_start = new int[num_chunks + 1];
+		Random[] chunk_rands = new Random[num_chunks];
+		
+		for (int c = 0; c < num_chunks; c++) {
+			chunk_start[c] = 2 * (num_pairs * c / num_chunks);
+			chunk_rands[c] = new Random(rand.nextLong());
+		}
+		chunk_start[num_chunks] = population_size;
+		
+		if (local_search != null && (local_searches == null || local_searches.length < num_chunks)) {
+			local_searches = new LOCAL_SEARCH[num_chunks];
+			for (int c = 0; c < num_chunks; c++) {
+				local_searches[c] = new LOCAL_SEARCH(smtwtp, local_search);
 			}
 		}
 		
-		int count, generation;
+		int[] chunk_best = new int[num_chunks];
+		int[] chunk_evaluations = new int[num_chunks];
+		chunk_lookups = new int[num_chunks];
+		chunk_hits = new int[num_chunks];
 		
-		generation = 0;
+		if (telemetry != null) {
+			chunk_nanos = new long[num_chunks][TELEMETRY.NUM_STEPS];
+		}
 		
-		// for each generation
-		while (generation < max_generations) {
+		if (pool == null || num_chunks == 1) {
+			for (int c = 0; c < num_chunks; c++) {
+				chunk_best[c] = breedChunk(new_population, chunk_start[c], chunk_start[c + 1], chunk_rands[c],
+						chunk_evaluations, c);
+			}
+		}
+		else {
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(num_chunks);
 			
-			new_population = new INDIVIDUAL[population_size];
+			for (int c = 0; c < num_chunks; c++) {
+				final int chunk = c;
+				tasks.add(() -> {
+					chunk_best[chunk] = breedChunk(new_population, chunk_start[chunk],
+							chunk_start[chunk + 1], chunk_rands[chunk], chunk_evaluations, chunk);
+					return null;
+				});
+			}
 			
-			count = 0;
-					
-			while (count < population_size) {
-						
-				// select parents for breeding
-				parents = tournamentSelection(population);
-						
-				// perform crossover with some probability
-				if (rand.nextDouble() < crossover_prob) {
-					children = orderOneCrossover(parents);
-				}
-				else {
-					children[0] = parents[0];
-					children[1] = parents[1];
-				}
-						
-				// add children to the new population
-				new_population[count] = children[0];
-				++count;
-				
-				if (count < population_size) {
-					new_population[count] = children[1];
-					++count;
+			for (Future<Void> result : pool.invokeAll(tasks)) {
+				try {
+					result.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("The generation was interrupted", e);
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Breeding a chunk failed", e.getCause());
 				}
 			}
+		}
+		
+		population = new_population;
+		
+		// reduce the best of each chunk, in chunk order so ties are broken the same way
+		for (int c = 0; c < num_chunks; c++) {
+			num_evaluations += chunk_evaluations[c];
+			cache_lookups += chunk_lookups[c];
+			cache_hits += chunk_hits[c];
 			
-			// mutate the new population
-			population = mutation(new_population);
+			if (population[chunk_best[c]].getWorkflow_score() < best_score) {
+				best_score = population[chunk_best[c]].getWorkflow_score();
+				best_workflow = population[chunk_best[c]].getWorkflow().clone();
+			}
+		}
+		num_generations_run++;
+		
+		if (telemetry != null) {
+			recordGeneration(num_chunks);
+		}
+	}
+	
+	/*
+	 * Purpose: Adds a record of the generation just bred to the telemetry, with the
+	 * time of each step summed over the chunks
+	 * Parameters: The number of chunks of the generation
+	 * Return: none
+	 * 
+	 */
+	public void recordGeneration(int num_chunks) {
+		
+		long[] nanos = new long[TELEMETRY.NUM_STEPS];
+		for (int c = 0; c < num_chunks; c++) {
+			for (int step = 0; step < TELEMETRY.NUM_STEPS; step++) {
+				nanos[step] += chunk_nanos[c][step];
+			}
+		}
+		
+		double total_score = 0.0;
+		double total_difference = 0.0;
+		
+		for (int i = 0; i < population_size; i++) {
+			total_score += population[i].getWorkflow_score();
+			total_difference += TELEMETRY.difference(population[i].getWorkflow(), best_workflow);
+		}
+		
+		telemetry.record(telemetry_source, num_generations_run, best_score, total_score / population_size,
+				num_evaluations, total_difference / population_size, nanos);
+	}
+	
+	/*
+	 * Purpose: Breeds the children for slots start to end (exclusive) of the new
+	 * population from the current population, mutates them, and scores them
+	 * Parameters: The new population, the first and last (exclusive) slot, the
+	 * random generator of the chunk, and the array of full scorings per chunk
+	 * with the index of this chunk
+	 * Return: The slot of the best child of the chunk
+	 * 
+	 */
+	public int breedChunk(INDIVIDUAL[] new_population, int start, int end, RandomGenerator chunk_rand,
+			int[] chunk_evaluations, int chunk) {
+		
+		INDIVIDUAL[] parents;
+		INDIVIDUAL[] children = new INDIVIDUAL[2];
+		
+		int count = start;
+		
+		// the steps are only timed for the telemetry
+		long[] nanos = (telemetry != null) ? chunk_nanos[chunk] : null;
+		long step_start = (nanos != null) ? System.nanoTime() : 0;
+				
+		while (count < end) {
+					
+			// select parents for breeding
+			parents = tournamentSelection(population, chunk_rand);
+					
+			// perform crossover with some probability
+			if (chunk_rand.nextDouble() < crossover_prob) {
+				children = orderOneCrossover(parents, chunk_rand);
+			}
+			else {
+				// copy the parents, the previous population must not be mutated
+				children[0] = new INDIVIDUAL(parents[0]);
+				children[1] = new INDIVIDUAL(parents[1]);
+			}
+					
+			// add children to the new population
+			new_population[count] = children[0];
+			++count;
 			
-			// find the best workflow so far
-			for (int i = 0; i < population_size; i++) {
-				population[i].scoreWorkflow();
-				if (population[i].getWorkflow_score() < best_score) {
-					best_score = population[i].getWorkflow_score();
-					best_workflow = population[i].getWorkflow().clone();
+			if (count < end) {
+				new_population[count] = children[1];
+				++count;
+			}
+		}
+		
+		if (nanos != null) {
+			nanos[TELEMETRY.CROSSOVER] = System.nanoTime() - step_start;
+			step_start = System.nanoTime();
+		}
+		
+		// mutate the new children
+		mutation(new_population, start, end, chunk_rand);
+		
+		if (nanos != null) {
+			nanos[TELEMETRY.MUTATION] = System.nanoTime() - step_start;
+			step_start = System.nanoTime();
+		}
+		
+		// only fully score new offspring since mutated individuals have already
+		// been rescored incrementally, and offspring found in the cache not at all
+		int best = start;
+		boolean use_cache = fitness_cache != null && local_searches == null;
+		
+		for (int i = start; i < end; i++) {
+			if (!new_population[i].isScored()) {
+				if (use_cache) {
+					if (!scoreCached(new_population[i], chunk)) {
+						chunk_evaluations[chunk]++;
+					}
+				}
+				else {
+					new_population[i].scoreWorkflow();
+					chunk_evaluations[chunk]++;
 				}
 			}
+			if (local_searches != null && !stop_condition.checkTime()) {
+				new_population[i].localSearch(local_searches[chunk]);
+			}
+			if (new_population[i].getWorkflow_score() < new_population[best].getWorkflow_score()) {
+				best = i;
+			}
+		}
+		
+		if (nanos != null) {
+			nanos[TELEMETRY.SEARCH] = System.nanoTime() - step_start;
+		}
+		return best;
+	}
+	
+	/*
+	 * Purpose: Takes the score of an offspring from the cache, or scores it and adds
+	 * it to the cache
+	 * Parameters: The offspring and the index of its chunk
+	 * Return: Whether the score was found in the cache
+	 * 
+	 */
+	public boolean scoreCached(INDIVIDUAL individual, int chunk) {
+		
+		long hash = individual.getHash(fitness_cache);
+		int score = fitness_cache.lookup(hash);
+		
+		chunk_lookups[chunk]++;
+		
+		if (score != FITNESS_CACHE.MISS) {
+			individual.setWorkflow_score(score);
+			chunk_hits[chunk]++;
+			return true;
+		}
+		
+		individual.scoreWorkflow();
+		fitness_cache.store(hash, individual.getWorkflow_score());
+		return false;
+	}
+	
+	/*
+	 * Purpose: Checks the best so far against the target score and the clock against
+	 * the time limit
+	 * Parameters: none
+	 * Return: Whether the run should stop
+	 * 
+	 */
+	public boolean checkStop() {
+		
+		stop_condition.checkScore(best_score);
+		return stop_condition.checkTime();
+	}
+	
+	/*
+	 * Purpose: Keeps the best scored individual of the population if it beats the
+	 * best so far
+	 * Parameters: none
+	 * Return: none
+	 * 
+	 */
+	public void updateBest() {
+		
+		for (int i = 0; i < population_size; i++) {
+			if (population[i].getWorkflow_score() < best_score) {
+				best_score = population[i].getWorkflow_score();
+				best_workflow = population[i].getWorkflow().clone();
+			}
+		}
+	}
+    
+	/*
+	 * Purpose: Copies the workflows of the best individuals, to send to other
+	 * populations of an island model
+	 * Parameters: The number of individuals to copy
+	 * Return: The copied workflows, best first
+	 * 
+	 */
+	public int[][] getElites(int count) {
+		
+		INDIVIDUAL[] sorted = population.clone();
+		Arrays.sort(sorted, Comparator.comparingInt(INDIVIDUAL::getWorkflow_score));
+		
+		count = Math.min(count, population_size);
+		int[][] elites = new int[count][];
+		
+		for (int i = 0; i < count; i++) {
+			elites[i] = sorted[i].getWorkflow().clone();
+		}
+		return elites;
+	}
+	
+	/*
+	 * Purpose: Replaces the worst individual of the population with a workflow from
+	 * another population of an island model, if the workflow scores better
+	 * Parameters: The workflow of the immigrant
+	 * Return: none
+	 * 
+	 */
+	public void immigrate(int[] workflow) {
+		
+		INDIVIDUAL immigrant = new INDIVIDUAL(num_jobs, smtwtp, workflow);
+		immigrant.scoreWorkflow();
+		num_evaluations++;
+		
+		int worst = 0;
+		for (int i = 1; i < population_size; i++) {
+			if (population[i].getWorkflow_score() > population[worst].getWorkflow_score()) {
+				worst = i;
+			}
+		}
+		
+		if (immigrant.getWorkflow_score() < population[worst].getWorkflow_score()) {
+			population[worst] = immigrant;
 			
-			generation++;
+			if (immigrant.getWorkflow_score() < best_score) {
+				best_score = immigrant.getWorkflow_score();
+				best_workflow = immigrant.getWorkflow().clone();
+			}
 		}
-		System.out.println(best_score);
 	}
     
 	/*
@@ -140,8 +533,16 @@ public class GA {
 	 * 
 	 */
     public INDIVIDUAL[] tournamentSelection(INDIVIDUAL[] population) {
-
-        Random rand = new Random();
+    	return tournamentSelection(population, rand);
+    }
+    
+	/*
+	 * Purpose: Tournament selection of two parents, drawing from a given generator
+	 * Parameters: An array of all individuals in the population, a random generator
+	 * Return: An array of two parents
+	 * 
+	 */
+    public INDIVIDUAL[] tournamentSelection(INDIVIDUAL[] population, RandomGenerator rand) {
 
         int count = 0;
         int index1, index2;
@@ -181,8 +582,17 @@ public class GA {
 	 * 
 	 */
     public INDIVIDUAL[] orderOneCrossover(INDIVIDUAL[] parents) {
+    	return orderOneCrossover(parents, rand);
+    }
+    
+	/*
+	 * Purpose: Order One Crossover, drawing the cut point from a given generator
+	 * Parameters: An array of two parents, a random generator
+	 * Return: An array of two offspring
+	 * 
+	 */
+    public INDIVIDUAL[] orderOneCrossover(INDIVIDUAL[] parents, RandomGenerator rand) {
     	
-    	Random rand = new Random();
 		Set<Integer> child1_set = new HashSet<Integer>();
 		Set<Integer> child2_set = new HashSet<Integer>();
 		int curr, index;
@@ -247,38 +657,39 @@ public class GA {
 	 * Range Reversal mutation. General Swap mutation selects two indices
 	 * in the workflow and swaps their contents. Range Reversal selects a 
 	 * random range of length 2 to 4 in the workflow and reverses the contents.
+	 * Individuals that are already scored are rescored incrementally by the swap
+	 * and reversal, so only unscored offspring need a full score afterwards.
 	 * Parameters: The entire population
 	 * Return: The entire population, with some mutation performed
 	 * 
 	 */
     public INDIVIDUAL[] mutation(INDIVIDUAL[] population){
     	
-        Random rand = new Random();
-        
-        int temp;
-        int[] workflow;
+    	mutation(population, 0, population_size, rand);
+        return population;
+    }
+    
+    /*
+	 * Purpose: Mutation of the individuals from start to end (exclusive), drawing
+	 * from a given generator
+	 * Parameters: The population, the first and last (exclusive) index, a random generator
+	 * Return: none
+	 * 
+	 */
+    public void mutation(INDIVIDUAL[] population, int start, int end, RandomGenerator rand) {
         
         int mutate1, mutate2;
         
-        for (int i = 0; i < population_size; i++) {
+        for (int i = start; i < end; i++) {
         	
         	//mutation 1.0 finds a range in the jobs list and reverses the order of jobs
         	if (rand.nextDouble() < mutation_prob) {
         	
-        		workflow = population[i].getWorkflow();
         		int range_size = rand.nextInt(3) + 2;
         		int starting_index = rand.nextInt(num_jobs - range_size);
-        		int counter = range_size - 1;
         	
         		// reverse the order of only the selected range
-        		for (int j = starting_index; j < starting_index + (range_size / 2); j++) {
-        			temp = workflow[j];
-        			workflow[j] = workflow[j + counter];
-        			workflow[j + counter] = temp;
-        			counter -= 2;
-        		}
-        		
-        		population[i].setWorkflow(workflow);
+        		population[i].reverseRange(starting_index, starting_index + range_size - 1);
         	}
         	
         	//mutation 2.0 finds two jobs and flips there place in the jobs list
@@ -287,19 +698,70 @@ public class GA {
         		mutate1 = rand.nextInt(num_jobs);
         		mutate2 = rand.nextInt(num_jobs);
         		
-        		workflow = population[i].getWorkflow();
-        		
-        		temp = workflow[mutate1];
-        		workflow[mutate1] = workflow[mutate2];
-        		workflow[mutate2] = temp;
-        		
-        		population[i].setWorkflow(workflow);
-        		
+        		population[i].swapJobs(mutate1, mutate2);
         	}
         	
         }
-        
-        return population;
+    }
+
+    public void setSeed(long seed) {
+    	this.rand = new SplittableRandom(seed);
+    }
+
+    public void setRandom(SplittableRandom rand) {
+    	this.rand = rand;
+    }
+
+    public void setNum_threads(int num_threads) {
+    	this.num_threads = Math.max(1, num_threads);
+    }
+
+    public void setLocal_search(String local_search) {
+    	this.local_search = local_search;
+    	this.local_searches = null;
+    }
+
+    public void setStop_condition(STOP_CONDITION stop_condition) {
+    	this.stop_condition = stop_condition;
+    }
+
+    public void setTelemetry(TELEMETRY telemetry, String telemetry_source) {
+    	this.telemetry = telemetry;
+    	this.telemetry_source = telemetry_source;
+    }
+
+    public void setCheckpoint(Path checkpoint_path, int checkpoint_interval, String checkpoint_algorithm) {
+    	this.checkpoint_path = checkpoint_path;
+    	this.checkpoint_interval = Math.max(1, checkpoint_interval);
+    	this.checkpoint_algorithm = checkpoint_algorithm;
+    }
+
+    public void setCache(int cache_capacity) {
+    	this.cache_capacity = Math.max(0, cache_capacity);
+    }
+
+    public long getCache_lookups() {
+    	return cache_lookups;
+    }
+
+    public long getCache_hits() {
+    	return cache_hits;
+    }
+
+    public double getCache_hit_rate() {
+    	return (cache_lookups == 0) ? 0.0 : (double) cache_hits / cache_lookups;
+    }
+
+    public long getNum_evaluations() {
+    	return num_evaluations;
+    }
+
+    public int getBest_score() {
+    	return best_score;
+    }
+
+    public int[] getBest_workflow() {
+    	return best_workflow;
     }
 
 }
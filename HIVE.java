@@ -49,7 +49,7 @@ public class HIVE {
 		for (int i = 0; i < num_ants; i++) {
 			if (hive[i].getWorkflow_score() < best_score_so_far) {
 				this.best_score_so_far = hive[i].getWorkflow_score();
-				this.best_workflow_so_far = hive[i].getWorkflow().clone();
+				System.arraycopy(hive[i].getWorkflow(), 0, best_workflow_so_far, 0, num_jobs);
 				is_new_best = true;
 			}
 		}	
@@ -6,7 +6,16 @@
  * This class defines an Individual object for use in GA on the SMTWTP.
  * Each Individual object can hold a workflow of jobs, represented as an array of integers,
  * a score of that workflow of jobs, represented as a double, an integer number of
- * jobs in the SMTWTP problem instance, and an array of jobs, represented as an array of jobs.
+ * jobs in the SMTWTP problem instance, and the packed (processing time,
+ * due date, weight) array of the jobs from the SMTWTP instance.
+ * 
+ * An Individual also keeps the completion time and weighted tardiness of the job at
+ * every position of its workflow. Once the workflow has been scored, swaps and range
+ * reversals only rescore the positions between the two changed indices, since every
+ * job outside of that window keeps its completion time.
+ * 
+ * Once it has been hashed for a FITNESS_CACHE, an Individual also keeps the Zobrist
+ * hash of its workflow up to date through swaps and range reversals.
  * 
  */
 
@@ -16,7 +25,18 @@ public class INDIVIDUAL {
 	int workflow_score;
 	
 	int num_jobs;
-	JOB[] jobs;
+	int[] job_data;
+	
+	// completion time and weighted tardiness of the job at each position
+	int[] completion_times;
+	int[] tardiness;
+	// whether workflow_score, completion_times, and tardiness match the workflow
+	boolean is_scored;
+	
+	// Zobrist hash of the workflow, and the cache whose keys it uses (null if the
+	// hash does not match the workflow)
+	long hash;
+	FITNESS_CACHE hash_cache;
 	
 	/* Purpose: Initialize an Individual object
 	 * Parameters: Number of jobs, a given SMTWTP object, and the workflow.
@@ -25,10 +45,35 @@ public class INDIVIDUAL {
 	public INDIVIDUAL(int num_jobs, SMTWTP smtwtp, int[] workflow) {
 		
 		this.num_jobs = num_jobs;
-		this.jobs = smtwtp.getJobs();
+		this.job_data = smtwtp.getJob_data();
 		this.workflow = workflow.clone();
 		
+		this.completion_times = new int[num_jobs];
+		this.tardiness = new int[num_jobs];
+		
 		this.workflow_score = Integer.MAX_VALUE;
+		this.is_scored = false;
+	}
+	
+	/* Purpose: Initialize an Individual object as a copy of another one, including
+	 * its score
+	 * Parameters: The Individual to copy
+	 * Return: N/A
+	 */
+	public INDIVIDUAL(INDIVIDUAL individual) {
+		
+		this.num_jobs = individual.num_jobs;
+		this.job_data = individual.job_data;
+		this.workflow = individual.workflow.clone();
+		
+		this.completion_times = individual.completion_times.clone();
+		this.tardiness = individual.tardiness.clone();
+		
+		this.workflow_score = individual.workflow_score;
+		this.is_scored = individual.is_scored;
+		
+		this.hash = individual.hash;
+		this.hash_cache = individual.hash_cache;
 	}
 	
 	/* Purpose: Score the Individual
@@ -37,25 +82,113 @@ public class INDIVIDUAL {
 	 */
 	public void scoreWorkflow() {
 		
-		int score = 0;
-		int time_so_far = 0;
+		this.workflow_score = SMTWTP.scoreWindow(workflow, 0, num_jobs - 1, 0, job_data,
+				completion_times, tardiness);
+		this.is_scored = true;
+	}
+	
+	/* Purpose: Rescore only the positions from start to end (inclusive) after the
+	 * jobs inside that window have been rearranged. Completion times outside of the
+	 * window do not change, so the score is corrected by the difference in tardiness
+	 * inside the window.
+	 * Parameters: The first and last index of the changed window
+	 * Return: None
+	 */
+	public void rescoreWindow(int start, int end) {
+		
+		int time_so_far = (start == 0) ? 0 : completion_times[start - 1];
+		int old_window_score = 0;
+		
+		for (int i = start; i <= end; i++) {
+			old_window_score += tardiness[i];
+		}
+		
+		this.workflow_score += SMTWTP.scoreWindow(workflow, start, end, time_so_far, job_data,
+				completion_times, tardiness) - old_window_score;
+	}
+	
+	/* Purpose: Swap the jobs at two positions of the workflow, rescoring only the
+	 * window between them if the Individual has already been scored
+	 * Parameters: The two indices to swap
+	 * Return: None
+	 */
+	public void swapJobs(int index1, int index2) {
+		
+		if (hash_cache != null) {
+			hash ^= swapKeys(index1, index2);
+		}
+		
+		int temp = workflow[index1];
+		workflow[index1] = workflow[index2];
+		workflow[index2] = temp;
+		
+		if (is_scored && index1 != index2) {
+			rescoreWindow(Math.min(index1, index2), Math.max(index1, index2));
+		}
+	}
+	
+	/* Purpose: Reverse the order of the jobs from start to end (inclusive), rescoring
+	 * only that range if the Individual has already been scored
+	 * Parameters: The first and last index of the range
+	 * Return: None
+	 */
+	public void reverseRange(int start, int end) {
 		
-		int curr_job;
-		int finish_difference;
+		int temp;
 		
-		for (int i = 0; i < num_jobs; i++) {
-			
-			curr_job = workflow[i];
-			
-			finish_difference = (time_so_far + jobs[curr_job].getProcessing_time()) - jobs[curr_job].getDue_date();
-			
-			if (finish_difference > 0) {
-				score += (finish_difference * jobs[curr_job].getWeight());
+		for (int i = start, j = end; i < j; i++, j--) {
+			if (hash_cache != null) {
+				hash ^= swapKeys(i, j);
 			}
-			
-			time_so_far += jobs[curr_job].getProcessing_time();
+			temp = workflow[i];
+			workflow[i] = workflow[j];
+			workflow[j] = temp;
+		}
+		
+		if (is_scored && start < end) {
+			rescoreWindow(start, end);
+		}
+	}
+	
+	/* Purpose: Find the hash of the workflow, hashing the whole workflow only if it
+	 * has not been hashed for this cache
+	 * Parameters: The FITNESS_CACHE
+	 * Return: The Zobrist hash
+	 */
+	public long getHash(FITNESS_CACHE cache) {
+		
+		if (hash_cache != cache) {
+			hash = cache.hash(workflow);
+			hash_cache = cache;
 		}
-		this.workflow_score = score;
+		return hash;
+	}
+	
+	/* Purpose: Find the change of the hash from swapping the jobs at two positions
+	 * Parameters: The two positions
+	 * Return: The keys to XOR into the hash
+	 */
+	public long swapKeys(int index1, int index2) {
+		
+		int job1 = workflow[index1];
+		int job2 = workflow[index2];
+		
+		return hash_cache.key(index1, job1) ^ hash_cache.key(index2, job2)
+				^ hash_cache.key(index1, job2) ^ hash_cache.key(index2, job1);
+	}
+	
+	/* Purpose: Improve the workflow with a local search until it is a local optimum,
+	 * scoring it first if it has not been scored
+	 * Parameters: The LOCAL_SEARCH to use
+	 * Return: None
+	 */
+	public void localSearch(LOCAL_SEARCH local_search) {
+		
+		if (!is_scored) {
+			scoreWorkflow();
+		}
+		this.workflow_score = local_search.improve(workflow, completion_times, tardiness, workflow_score);
+		this.hash_cache = null;
 	}
 	
 	/*
@@ -68,6 +201,8 @@ public class INDIVIDUAL {
 
 	public void setWorkflow(int[] workflow) {
 		this.workflow = workflow.clone();
+		this.is_scored = false;
+		this.hash_cache = null;
 	}
 
 	public int getWorkflow_score() {
@@ -86,4 +221,8 @@ public class INDIVIDUAL {
 		this.num_jobs = num_jobs;
 	}
 
+	public boolean isScored() {
+		return is_scored;
+	}
+
 }
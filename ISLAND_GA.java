@@ -0,0 +1,273 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines the island model of the Genetic Algorithm. The initial
+ * workflows are dealt out to a number of islands, and each island is an ordinary GA
+ * (tournament selection, Order One Crossover, and mutation) evolving its own
+ * population on its own thread. Every migration_interval generations, an island
+ * sends copies of its best workflows to its neighbours and takes in the workflows
+ * its neighbours have sent, each one replacing its worst individual if it is better.
+ * The neighbours are the next island on a ring, or every other island when the
+ * islands are fully connected.
+ *
+ * Islands never wait for each other: each one has a lock-free inbox queue that the
+ * other islands add to, and that it drains when it is time to migrate. The islands
+ * share one STOP_CONDITION, so they all stop once time is up or once any of them has
+ * reached the target score.
+ *
+ * Each island draws from its own random stream, split off the stream of the model in
+ * island order. Which migrants an island has received when it drains its inbox still
+ * depends on the speed of the other islands, so a seeded island model is only
+ * reproducible without migration.
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ISLAND_GA {
+
+	public static final String RING = "ring";
+	public static final String FULLY_CONNECTED = "full";
+
+	// the number of islands and the GA parameters of each one
+	public int num_islands;
+	public double mutation_prob;
+	public int max_generations;
+	public double crossover_prob;
+
+	// generations between migrations, workflows sent per migration, and topology
+	public int migration_interval;
+	public int num_migrants;
+	public String topology;
+
+	// neighborhood of the local search applied to the offspring of every island
+	public String local_search;
+
+	// entries of the score cache of every island, 0 for none
+	public int cache_capacity;
+
+	// time limit and target score shared by the islands
+	public STOP_CONDITION stop_condition = STOP_CONDITION.never();
+
+	// records of the generations of every island, null for none
+	public TELEMETRY telemetry;
+
+	// the random stream the streams of the islands are split off
+	public SplittableRandom rand = new SplittableRandom();
+
+	public GA[] islands;
+	public List<ConcurrentLinkedQueue<int[]>> inboxes;
+
+	public int best_score;
+	public int[] best_workflow;
+
+	public ISLAND_GA(int num_islands, double mutation_prob, int max_generations, double crossover_prob,
+			int migration_interval, int num_migrants, String topology) {
+
+		if (!topology.equals(RING) && !topology.equals(FULLY_CONNECTED)) {
+			throw new IllegalArgumentException("Unknown topology: " + topology);
+		}
+		if (migration_interval < 1) {
+			throw new IllegalArgumentException("The migration interval must be at least 1: " + migration_interval);
+		}
+
+		this.num_islands = num_islands;
+		this.mutation_prob = mutation_prob;
+		this.max_generations = max_generations;
+		this.crossover_prob = crossover_prob;
+		this.migration_interval = migration_interval;
+		this.num_migrants = num_migrants;
+		this.topology = topology;
+	}
+
+	/*
+	 * Purpose: Runs the island model. The initial workflows are dealt out to the
+	 * islands in turn, the islands evolve on their own threads, and the best workflow
+	 * of all islands is kept.
+	 * Parameters: A 2d integer array of initial workflows, the smtwtp problem object
+	 * Return: The best workflow found, its score is kept in best_score
+	 *
+	 */
+	public int[] RunGA(int[][] workflows, SMTWTP smtwtp) {
+
+		int islands_used = Math.max(1, Math.min(num_islands, workflows.length / 2));
+
+		islands = new GA[islands_used];
+		inboxes = new ArrayList<ConcurrentLinkedQueue<int[]>>(islands_used);
+
+		for (int i = 0; i < islands_used; i++) {
+
+			// island i gets workflows i, i + islands_used, i + 2 * islands_used, ...
+			int[][] island_workflows = new int[(workflows.length - i + islands_used - 1) / islands_used][];
+			for (int j = 0; j < island_workflows.length; j++) {
+				island_workflows[j] = workflows[i + j * islands_used];
+			}
+
+			islands[i] = new GA(island_workflows.length, mutation_prob, max_generations, crossover_prob);
+			islands[i].setLocal_search(local_search);
+			islands[i].setCache(cache_capacity);
+			islands[i].setRandom(rand.split());
+			islands[i].setStop_condition(stop_condition);
+			if (telemetry != null) {
+				islands[i].setTelemetry(telemetry, "island " + i);
+			}
+			islands[i].initializePopulation(island_workflows, smtwtp);
+			inboxes.add(new ConcurrentLinkedQueue<int[]>());
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(islands_used);
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(islands_used);
+
+		for (int i = 0; i < islands_used; i++) {
+			final int island = i;
+			tasks.add(() -> {
+				evolve(island);
+				return null;
+			});
+		}
+
+		try {
+			for (Future<Void> result : pool.invokeAll(tasks)) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The islands were interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("An island failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		// keep the best workflow of all islands
+		best_score = Integer.MAX_VALUE;
+		for (GA ga : islands) {
+			if (ga.getBest_score() < best_score) {
+				best_score = ga.getBest_score();
+				best_workflow = ga.getBest_workflow();
+			}
+		}
+		return best_workflow;
+	}
+
+	/*
+	 * Purpose: Evolves one island for every generation, migrating every
+	 * migration_interval generations, until the stop condition is met
+	 * Parameters: The index of the island
+	 * Return: none
+	 *
+	 */
+	public void evolve(int island) {
+
+		GA ga = islands[island];
+
+		for (int generation = 1; generation <= max_generations && !ga.checkStop(); generation++) {
+
+			ga.runGeneration();
+
+			if (generation % migration_interval == 0 && islands.length > 1) {
+				migrate(island);
+			}
+		}
+	}
+
+	/*
+	 * Purpose: Sends copies of the best workflows of an island to its neighbours and
+	 * takes in the workflows waiting in its own inbox
+	 * Parameters: The index of the island
+	 * Return: none
+	 *
+	 */
+	public void migrate(int island) {
+
+		GA ga = islands[island];
+		int[][] elites = ga.getElites(num_migrants);
+
+		if (topology.equals(RING)) {
+			for (int[] elite : elites) {
+				inboxes.get((island + 1) % islands.length).offer(elite);
+			}
+		} else {
+			for (int other = 0; other < islands.length; other++) {
+				if (other != island) {
+					for (int[] elite : elites) {
+						inboxes.get(other).offer(elite);
+					}
+				}
+			}
+		}
+
+		int[] immigrant;
+		while ((immigrant = inboxes.get(island).poll()) != null) {
+			ga.immigrate(immigrant);
+		}
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+
+	public void setLocal_search(String local_search) {
+		this.local_search = local_search;
+	}
+
+	public void setRandom(SplittableRandom rand) {
+		this.rand = rand;
+	}
+
+	public void setCache(int cache_capacity) {
+		this.cache_capacity = cache_capacity;
+	}
+
+	public void setStop_condition(STOP_CONDITION stop_condition) {
+		this.stop_condition = stop_condition;
+	}
+
+	public void setTelemetry(TELEMETRY telemetry) {
+		this.telemetry = telemetry;
+	}
+
+	public long getNum_evaluations() {
+
+		long num_evaluations = 0;
+		for (GA ga : islands) {
+			num_evaluations += ga.getNum_evaluations();
+		}
+		return num_evaluations;
+	}
+
+	public long getCache_lookups() {
+
+		long cache_lookups = 0;
+		for (GA ga : islands) {
+			cache_lookups += ga.getCache_lookups();
+		}
+		return cache_lookups;
+	}
+
+	public long getCache_hits() {
+
+		long cache_hits = 0;
+		for (GA ga : islands) {
+			cache_hits += ga.getCache_hits();
+		}
+		return cache_hits;
+	}
+
+	public int getBest_score() {
+		return best_score;
+	}
+
+	public int[] getBest_workflow() {
+		return best_workflow;
+	}
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a LOCAL_SEARCH object, which improves a workflow until it is a
+ * local optimum of one neighborhood:
+ * 	swap: the best exchange of the jobs at two positions
+ * 	insertion: the best move of one job to another position
+ * 	dynasearch: the best set of independent swaps, found by dynamic programming
+ * Moving jobs inside a window of the workflow never changes the completion times
+ * outside of it, so every move is evaluated from the completion time and weighted
+ * tardiness at each position, in time proportional to the window. Swaps of windows
+ * that do not overlap change the score independently, which is what lets dynasearch
+ * combine them: the best gain of the first k positions is either the gain of the
+ * first k - 1 positions, or the gain of a swap ending at position k - 1 plus the best
+ * gain of the positions before the swap.
+ *
+ * A LOCAL_SEARCH keeps its own scratch arrays, so each thread needs its own.
+ *
+ */
+
+public class LOCAL_SEARCH {
+
+	public static final String SWAP = "swap";
+	public static final String INSERTION = "insertion";
+	public static final String DYNASEARCH = "dynasearch";
+
+	String neighborhood;
+	int num_jobs;
+	int[] job_data;
+
+	// completion time and weighted tardiness at each position, for workflows that
+	// do not bring their own
+	int[] own_completion_times;
+	int[] own_tardiness;
+
+	// best gain of the first k positions, and the start of the swap ending at
+	// position k - 1 that achieves it (-1 if position k - 1 is not swapped)
+	int[] best_gain;
+	int[] swap_start;
+
+	// number of improving moves applied
+	long num_moves;
+
+	/* Purpose: Initialize a LOCAL_SEARCH object for a problem
+	 * Parameters: The SMTWTP problem and the neighborhood (swap, insertion, or dynasearch)
+	 * Return: N/A
+	 */
+	public LOCAL_SEARCH(SMTWTP smtwtp, String neighborhood) {
+
+		if (!neighborhood.equals(SWAP) && !neighborhood.equals(INSERTION) && !neighborhood.equals(DYNASEARCH)) {
+			throw new IllegalArgumentException("Unknown neighborhood: " + neighborhood);
+		}
+
+		this.neighborhood = neighborhood;
+		this.num_jobs = smtwtp.getNum_jobs();
+		this.job_data = smtwtp.getJob_data();
+
+		this.own_completion_times = new int[num_jobs];
+		this.own_tardiness = new int[num_jobs];
+		this.best_gain = new int[num_jobs + 1];
+		this.swap_start = new int[num_jobs + 1];
+	}
+
+	/* Purpose: Score a workflow and improve it until it is a local optimum
+	 * Parameters: The workflow, which is changed in place
+	 * Return: The score of the improved workflow
+	 */
+	public int improve(int[] workflow) {
+
+		int score = SMTWTP.scoreWindow(workflow, 0, num_jobs - 1, 0, job_data, own_completion_times, own_tardiness);
+		return improve(workflow, own_completion_times, own_tardiness, score);
+	}
+
+	/* Purpose: Improve a scored workflow until it is a local optimum, keeping its
+	 * completion times and weighted tardiness up to date
+	 * Parameters: The workflow, its completion time and weighted tardiness at each
+	 * position, and its score
+	 * Return: The score of the improved workflow
+	 */
+	public int improve(int[] workflow, int[] completion_times, int[] tardiness, int score) {
+
+		int gain;
+
+		do {
+			if (neighborhood.equals(SWAP)) {
+				gain = swapPass(workflow, completion_times, tardiness);
+			} else if (neighborhood.equals(INSERTION)) {
+				gain = insertionPass(workflow, completion_times, tardiness);
+			} else {
+				gain = dynasearchPass(workflow, completion_times, tardiness);
+			}
+			score += gain;
+		} while (gain < 0);
+
+		return score;
+	}
+
+	/* Purpose: Apply the best improving swap of two positions, if there is one
+	 * Parameters: The workflow, its completion times and weighted tardiness
+	 * Return: The change of the score, 0 if no swap improves it
+	 */
+	public int swapPass(int[] workflow, int[] completion_times, int[] tardiness) {
+
+		int best = 0;
+		int best_i = -1;
+		int best_j = -1;
+		int delta;
+
+		for (int i = 0; i < num_jobs - 1; i++) {
+			for (int j = i + 1; j < num_jobs; j++) {
+				delta = swapDelta(workflow, completion_times, tardiness, i, j, best);
+				if (delta < best) {
+					best = delta;
+					best_i = i;
+					best_j = j;
+				}
+			}
+		}
+
+		if (best < 0) {
+			applySwap(workflow, completion_times, tardiness, best_i, best_j);
+		}
+		return best;
+	}
+
+	/* Purpose: Apply the best improving move of one job to another position, if there
+	 * is one
+	 * Parameters: The workflow, its completion times and weighted tardiness
+	 * Return: The change of the score, 0 if no move improves it
+	 */
+	public int insertionPass(int[] workflow, int[] completion_times, int[] tardiness) {
+
+		int best = 0;
+		int best_from = -1;
+		int best_to = -1;
+		int delta;
+
+		for (int from = 0; from < num_jobs; from++) {
+			for (int to = 0; to < num_jobs; to++) {
+				if (to != from) {
+					delta = insertionDelta(workflow, completion_times, tardiness, from, to, best);
+					if (delta < best) {
+						best = delta;
+						best_from = from;
+						best_to = to;
+					}
+				}
+			}
+		}
+
+		if (best < 0) {
+
+			int job = workflow[best_from];
+
+			if (best_to > best_from) {
+				System.arraycopy(workflow, best_from + 1, workflow, best_from, best_to - best_from);
+			} else {
+				System.arraycopy(workflow, best_to, workflow, best_to + 1, best_from - best_to);
+			}
+			workflow[best_to] = job;
+
+			rescoreWindow(workflow, completion_times, tardiness, Math.min(best_from, best_to),
+					Math.max(best_from, best_to));
+			num_moves++;
+		}
+		return best;
+	}
+
+	/* Purpose: Apply the best set of swaps whose windows do not overlap, if it
+	 * improves the workflow
+	 * Parameters: The workflow, its completion times and weighted tardiness
+	 * Return: The change of the score, 0 if no set of swaps improves it
+	 */
+	public int dynasearchPass(int[] workflow, int[] completion_times, int[] tardiness) {
+
+		int delta;
+
+		best_gain[0] = 0;
+		swap_start[0] = -1;
+
+		for (int k = 1; k <= num_jobs; k++) {
+
+			// leave position k - 1 where it is
+			best_gain[k] = best_gain[k - 1];
+			swap_start[k] = -1;
+
+			// or swap it with an earlier position i, after the best of the first i
+			for (int i = 0; i < k - 1; i++) {
+				delta = swapDelta(workflow, completion_times, tardiness, i, k - 1, best_gain[k] - best_gain[i]);
+				if (best_gain[i] + delta < best_gain[k]) {
+					best_gain[k] = best_gain[i] + delta;
+					swap_start[k] = i;
+				}
+			}
+		}
+
+		// walk the chosen swaps back from the end of the workflow
+		int k = num_jobs;
+		while (k > 0) {
+			if (swap_start[k] < 0) {
+				k--;
+			} else {
+				applySwap(workflow, completion_times, tardiness, swap_start[k], k - 1);
+				k = swap_start[k];
+			}
+		}
+		return best_gain[num_jobs];
+	}
+
+	/* Purpose: Find the change of the score from swapping the jobs at two positions.
+	 * The jobs between them all move by the difference of the two processing times.
+	 * When they move later, their tardiness can only grow, so the sum stops as soon
+	 * as it reaches the limit.
+	 * Parameters: The workflow, its completion times and weighted tardiness, two
+	 * positions i < j, and the limit below which the change is of interest
+	 * Return: The change of the score, or a value at or above the limit
+	 */
+	public int swapDelta(int[] workflow, int[] completion_times, int[] tardiness, int i, int j, int limit) {
+
+		int first = workflow[i] * SMTWTP.JOB_STRIDE;
+		int second = workflow[j] * SMTWTP.JOB_STRIDE;
+		int shift = job_data[second + SMTWTP.PROCESSING_TIME] - job_data[first + SMTWTP.PROCESSING_TIME];
+		int start_time = (i == 0) ? 0 : completion_times[i - 1];
+
+		int delta = weightedTardiness(second, start_time + job_data[second + SMTWTP.PROCESSING_TIME])
+				+ weightedTardiness(first, completion_times[j]) - tardiness[i] - tardiness[j];
+
+		if (shift > 0) {
+			for (int k = i + 1; k < j && delta < limit; k++) {
+				delta += weightedTardiness(workflow[k] * SMTWTP.JOB_STRIDE, completion_times[k] + shift)
+						- tardiness[k];
+			}
+		} else if (shift < 0) {
+			for (int k = i + 1; k < j; k++) {
+				delta += weightedTardiness(workflow[k] * SMTWTP.JOB_STRIDE, completion_times[k] + shift)
+						- tardiness[k];
+			}
+		}
+		return delta;
+	}
+
+	/* Purpose: Find the change of the score from moving the job at one position to
+	 * another. The jobs it passes all move by its processing time. When it moves
+	 * earlier they move later, so the sum stops as soon as it reaches the limit.
+	 * Parameters: The workflow, its completion times and weighted tardiness, the
+	 * position the job is moved from and to, and the limit below which the change
+	 * is of interest
+	 * Return: The change of the score, or a value at or above the limit
+	 */
+	public int insertionDelta(int[] workflow, int[] completion_times, int[] tardiness, int from, int to,
+			int limit) {
+
+		int moved = workflow[from] * SMTWTP.JOB_STRIDE;
+		int processing_time = job_data[moved + SMTWTP.PROCESSING_TIME];
+		int delta = -tardiness[from];
+
+		if (to > from) {
+			// the jobs after it finish earlier, and it finishes where the last of them did
+			for (int k = from + 1; k <= to; k++) {
+				delta += weightedTardiness(workflow[k] * SMTWTP.JOB_STRIDE, completion_times[k] - processing_time)
+						- tardiness[k];
+			}
+			delta += weightedTardiness(moved, completion_times[to]);
+		} else {
+			// it finishes where the jobs before it used to start, and they finish later
+			delta += weightedTardiness(moved, ((to == 0) ? 0 : completion_times[to - 1]) + processing_time);
+			for (int k = to; k < from && delta < limit; k++) {
+				delta += weightedTardiness(workflow[k] * SMTWTP.JOB_STRIDE, completion_times[k] + processing_time)
+						- tardiness[k];
+			}
+		}
+		return delta;
+	}
+
+	/* Purpose: Swap the jobs at two positions and rescore the window between them
+	 * Parameters: The workflow, its completion times and weighted tardiness, and two
+	 * positions i < j
+	 * Return: None
+	 */
+	public void applySwap(int[] workflow, int[] completion_times, int[] tardiness, int i, int j) {
+
+		int temp = workflow[i];
+		workflow[i] = workflow[j];
+		workflow[j] = temp;
+
+		rescoreWindow(workflow, completion_times, tardiness, i, j);
+		num_moves++;
+	}
+
+	/* Purpose: Recompute the completion times and weighted tardiness inside a window
+	 * Parameters: The workflow, its completion times and weighted tardiness, and the
+	 * first and last position of the window
+	 * Return: None
+	 */
+	public void rescoreWindow(int[] workflow, int[] completion_times, int[] tardiness, int start, int end) {
+
+		SMTWTP.scoreWindow(workflow, start, end, (start == 0) ? 0 : completion_times[start - 1], job_data,
+				completion_times, tardiness);
+	}
+
+	/* Purpose: Find the weighted tardiness of a job that finishes at a given time
+	 * Parameters: The offset of the job in the packed job data, and its completion time
+	 * Return: The weighted tardiness
+	 */
+	public int weightedTardiness(int base, int completion_time) {
+
+		int finish_difference = completion_time - job_data[base + SMTWTP.DUE_DATE];
+		return (finish_difference > 0) ? finish_difference * job_data[base + SMTWTP.WEIGHT] : 0;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public String getNeighborhood() {
+		return neighborhood;
+	}
+
+	public long getNum_moves() {
+		return num_moves;
+	}
+
+}
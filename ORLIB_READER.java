@@ -0,0 +1,200 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class reads the SMTWTP instances of an OR-Library weighted tardiness file
+ * (wt40.txt, wt50.txt, wt100.txt), one instance at a time. Each file holds many
+ * instances one after another. Every instance is the processing times, then the
+ * weights, then the due dates of its jobs, as whitespace separated integers wrapped
+ * over as many lines as needed. The number of jobs is not written in the file, so
+ * it is given to the reader or taken from the file name.
+ *
+ * The numbers are parsed straight from a byte buffer instead of going through a
+ * Scanner and split strings, so a whole benchmark file is read quickly and without
+ * creating a String per number.
+ *
+ */
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ORLIB_READER implements AutoCloseable {
+
+	int num_jobs;
+	int num_read;
+
+	InputStream input;
+	byte[] buffer;
+	int buffer_position;
+	int buffer_length;
+
+	public static final int BUFFER_SIZE = 1 << 16;
+	public static final int END_OF_FILE = -1;
+
+	/* Purpose: Initialize an ORLIB_READER object, taking the number of jobs
+	 * from the file name (40 for wt40.txt)
+	 * Parameters: The path to the OR-Library file
+	 * Return: N/A
+	 */
+	public ORLIB_READER(String filename) throws IOException {
+		this(filename, jobsFromFilename(filename));
+	}
+
+	/* Purpose: Initialize an ORLIB_READER object
+	 * Parameters: The path to the OR-Library file and the number of jobs of
+	 * each instance
+	 * Return: N/A
+	 */
+	public ORLIB_READER(String filename, int num_jobs) throws IOException {
+
+		if (num_jobs <= 0) {
+			throw new IllegalArgumentException("Number of jobs must be positive: " + num_jobs);
+		}
+
+		this.num_jobs = num_jobs;
+		this.num_read = 0;
+		this.input = new FileInputStream(filename);
+		this.buffer = new byte[BUFFER_SIZE];
+		this.buffer_position = 0;
+		this.buffer_length = 0;
+	}
+
+	/* Purpose: Find the number of jobs of an OR-Library file from the digits in
+	 * its name, such as 100 for wt100.txt
+	 * Parameters: The path to the OR-Library file
+	 * Return: The number of jobs of each instance in the file
+	 */
+	public static int jobsFromFilename(String filename) {
+
+		String name = filename.substring(filename.lastIndexOf('/') + 1);
+		int start = 0;
+
+		while (start < name.length() && !Character.isDigit(name.charAt(start))) {
+			start++;
+		}
+
+		int end = start;
+		while (end < name.length() && Character.isDigit(name.charAt(end))) {
+			end++;
+		}
+
+		if (start == end) {
+			throw new IllegalArgumentException("Cannot tell the number of jobs from " + filename);
+		}
+		return Integer.parseInt(name.substring(start, end));
+	}
+
+	/* Purpose: Check whether another instance follows in the file
+	 * Parameters: None
+	 * Return: Whether there are numbers left to read
+	 */
+	public boolean hasNext() throws IOException {
+
+		return skipWhitespace() != END_OF_FILE;
+	}
+
+	/* Purpose: Read the next instance of the file
+	 * Parameters: None
+	 * Return: The SMTWTP problem of the instance
+	 */
+	public SMTWTP next() throws IOException {
+
+		int[] processing_times = readInts();
+		int[] weights = readInts();
+		int[] due_dates = readInts();
+
+		num_read++;
+		return new SMTWTP(processing_times, due_dates, weights);
+	}
+
+	/* Purpose: Read one integer for each job
+	 * Parameters: None
+	 * Return: The array of integers
+	 */
+	private int[] readInts() throws IOException {
+
+		int[] values = new int[num_jobs];
+
+		for (int i = 0; i < num_jobs; i++) {
+			values[i] = readInt();
+		}
+		return values;
+	}
+
+	/* Purpose: Parse the next non-negative integer from the buffer
+	 * Parameters: None
+	 * Return: The integer
+	 */
+	private int readInt() throws IOException {
+
+		int c = skipWhitespace();
+
+		if (c == END_OF_FILE) {
+			throw new IOException("Instance " + (num_read + 1) + " ends early");
+		}
+
+		int value = 0;
+
+		while (c >= '0' && c <= '9') {
+			value = value * 10 + (c - '0');
+			buffer_position++;
+			c = peek();
+		}
+
+		if (c != END_OF_FILE && c > ' ') {
+			throw new IOException("Unexpected character '" + (char) c + "' in instance " + (num_read + 1));
+		}
+		return value;
+	}
+
+	/* Purpose: Move past spaces and line breaks
+	 * Parameters: None
+	 * Return: The next byte, which is left in the buffer, or END_OF_FILE
+	 */
+	private int skipWhitespace() throws IOException {
+
+		int c = peek();
+
+		while (c != END_OF_FILE && c <= ' ') {
+			buffer_position++;
+			c = peek();
+		}
+		return c;
+	}
+
+	/* Purpose: Look at the next byte, refilling the buffer when it is used up
+	 * Parameters: None
+	 * Return: The next byte, or END_OF_FILE
+	 */
+	private int peek() throws IOException {
+
+		if (buffer_position == buffer_length) {
+			buffer_length = input.read(buffer, 0, buffer.length);
+			buffer_position = 0;
+
+			if (buffer_length <= 0) {
+				buffer_length = 0;
+				return END_OF_FILE;
+			}
+		}
+		return buffer[buffer_position];
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public int getNum_jobs() {
+		return num_jobs;
+	}
+
+	public int getNum_read() {
+		return num_read;
+	}
+
+}
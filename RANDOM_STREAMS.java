@@ -0,0 +1,91 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a RANDOM_STREAMS object, the single source of randomness of a
+ * run. It holds the root of a tree of SplittableRandom streams, seeded from the
+ * --seed option or from the clock when there is none. Every engine of a run gets
+ * its own stream split off the root, and splits it again for its ants, islands, or
+ * chunks, always in a fixed order on one thread. Every stream is therefore decided
+ * by the seed alone, and not by which thread happens to run first, so a seeded run
+ * gives the same result for the same number of threads. The EAS splits one stream
+ * per ant, so its result does not depend on the number of threads at all, but the
+ * GA splits one per chunk, and it breeds one chunk per thread.
+ *
+ * A SplittableRandom is not thread safe, so every stream is only drawn from by one
+ * thread at a time. Splitting the root is synchronized, for runs that are started
+ * from several threads.
+ *
+ */
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+public class RANDOM_STREAMS {
+
+	long seed;
+	SplittableRandom root;
+
+	/* Purpose: Initialize a RANDOM_STREAMS object from a seed
+	 * Parameters: The seed
+	 * Return: N/A
+	 */
+	public RANDOM_STREAMS(long seed) {
+
+		this.seed = seed;
+		this.root = new SplittableRandom(seed);
+	}
+
+	/* Purpose: Initialize a RANDOM_STREAMS object from a seed drawn from the clock
+	 * Parameters: None
+	 * Return: The RANDOM_STREAMS
+	 */
+	public static RANDOM_STREAMS unseeded() {
+		return new RANDOM_STREAMS(new SplittableRandom().nextLong());
+	}
+
+	/* Purpose: Split an independent stream off the root
+	 * Parameters: None
+	 * Return: The stream
+	 */
+	public synchronized SplittableRandom split() {
+		return root.split();
+	}
+
+	/* Purpose: Split independent streams off a stream, in order
+	 * Parameters: The stream to split and the number of streams
+	 * Return: The streams
+	 */
+	public static SplittableRandom[] split(SplittableRandom rand, int count) {
+
+		SplittableRandom[] streams = new SplittableRandom[count];
+		for (int i = 0; i < count; i++) {
+			streams[i] = rand.split();
+		}
+		return streams;
+	}
+
+	/* Purpose: Shuffle an array with the Fisher-Yates shuffle
+	 * Parameters: The array, which is shuffled in place, and the stream to draw from
+	 * Return: None
+	 */
+	public static void shuffle(int[] values, RandomGenerator rand) {
+
+		int swap, temp;
+
+		for (int i = values.length - 1; i > 0; i--) {
+			swap = rand.nextInt(i + 1);
+			temp = values[i];
+			values[i] = values[swap];
+			values[swap] = temp;
+		}
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public long getSeed() {
+		return seed;
+	}
+
+}
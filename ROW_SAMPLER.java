@@ -0,0 +1,153 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a ROW_SAMPLER object, which samples the next job of an ant
+ * from a tree instead of a scan over the unscheduled jobs. For every job it keeps a
+ * Fenwick tree (binary indexed tree) over the values of the paths from that job to
+ * every other job, so that a job can be drawn with probability proportional to the
+ * value of its path from the current job by descending the tree of the current
+ * job's row.
+ *
+ * The trees are built once per iteration from the value matrix and are then only
+ * read, so they are shared by every ant. Jobs that are already scheduled are not
+ * removed from the trees, since the row changes with every step. An ant draws from
+ * the row's tree as if its scheduled jobs had been removed instead: with the
+ * scheduled jobs in increasing order and the running sums of their values in the
+ * row, the scheduled part of each subtree on the way down is found by binary search
+ * and taken out of its sum. This costs O(k + log n log k) for k scheduled jobs, so
+ * it pays off while fewer jobs are scheduled than unscheduled.
+ *
+ */
+
+public class ROW_SAMPLER {
+
+	int num_jobs;
+	// row r is a 1-based Fenwick tree in trees[r * (num_jobs + 1) + 1 .. (r + 1) * (num_jobs + 1) - 1]
+	double[] trees;
+	double[] row_totals;
+	// largest power of two not above num_jobs, where the descent starts
+	int top_bit;
+
+	/* Purpose: Initialize a ROW_SAMPLER object with empty trees
+	 * Parameters: The number of jobs
+	 * Return: N/A
+	 */
+	public ROW_SAMPLER(int num_jobs) {
+
+		this.num_jobs = num_jobs;
+		this.trees = new double[num_jobs * (num_jobs + 1)];
+		this.row_totals = new double[num_jobs];
+		this.top_bit = Integer.highestOneBit(Math.max(1, num_jobs));
+	}
+
+	/* Purpose: Rebuild the tree of every row from the value matrix, in O(n) per row
+	 * Parameters: The value matrix
+	 * Return: None
+	 */
+	public void build(TRIANGULAR_MATRIX value) {
+
+		int stride = num_jobs + 1;
+		int base, parent;
+
+		for (int row = 0; row < num_jobs; row++) {
+
+			base = row * stride;
+
+			// the leaves, the path from a job to itself is never taken
+			for (int job = 0; job < num_jobs; job++) {
+				trees[base + job + 1] = (job == row) ? 0.0 : value.get(row, job);
+			}
+
+			// push every node's sum into its parent
+			for (int node = 1; node <= num_jobs; node++) {
+				parent = node + (node & -node);
+				if (parent <= num_jobs) {
+					trees[base + parent] += trees[base + node];
+				}
+			}
+
+			row_totals[row] = prefixSum(row, num_jobs);
+		}
+	}
+
+	/* Purpose: Sum the values of the first jobs of a row
+	 * Parameters: The row and the number of jobs to sum
+	 * Return: The sum of the values of jobs 0 to count - 1
+	 */
+	public double prefixSum(int row, int count) {
+
+		int base = row * (num_jobs + 1);
+		double sum = 0.0;
+
+		for (int node = count; node > 0; node -= node & -node) {
+			sum += trees[base + node];
+		}
+		return sum;
+	}
+
+	/* Purpose: Find the job of a row whose range of running sums contains a target,
+	 * leaving out some jobs of the row
+	 * Parameters: The row, a target in [0, total of the jobs left in the row), the jobs
+	 * to leave out in increasing order, the running sums of their values in the row
+	 * (sums[k] is the sum of the first k of them), and the number of them
+	 * Return: The job
+	 */
+	public int sampleWithout(int row, double target, int[] excluded, double[] sums, int num_excluded) {
+
+		int base = row * (num_jobs + 1);
+		int node = 0;
+		// number of left out jobs before job node, and before job next
+		int below = 0;
+		int upto;
+		int next;
+		double sum;
+
+		for (int bit = top_bit; bit > 0; bit >>= 1) {
+			next = node + bit;
+			if (next > num_jobs) {
+				continue;
+			}
+
+			upto = countBelow(excluded, below, num_excluded, next);
+			sum = trees[base + next] - (sums[upto] - sums[below]);
+
+			if (sum <= target) {
+				node = next;
+				target -= sum;
+				below = upto;
+			}
+		}
+
+		return Math.min(node, num_jobs - 1);
+	}
+
+	/* Purpose: Count the jobs of a range of an increasing array that are below a job
+	 * Parameters: The array, the first and one past the last index of the range, and
+	 * the job
+	 * Return: The index of the first job of the range at or above the job
+	 */
+	public static int countBelow(int[] jobs, int from, int to, int job) {
+
+		int middle;
+
+		while (from < to) {
+			middle = (from + to) >>> 1;
+			if (jobs[middle] < job) {
+				from = middle + 1;
+			}
+			else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public double getRow_total(int row) {
+		return row_totals[row];
+	}
+
+}
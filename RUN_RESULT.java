@@ -0,0 +1,153 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a RUN_RESULT object, the outcome of running one algorithm on
+ * one SMTWTP problem. It holds the algorithm that was run, the best score of the
+ * EAS runs (when the EAS was run), the final score and the workflow that achieves it,
+ * the wall clock time of the run in seconds, and the number of complete workflow
+ * evaluations performed, whether the run was stopped early by its time limit or
+ * by reaching its target score, and the lookups and hits of the GA score cache.
+ * When the best known value of the problem is known, it also holds that value and
+ * the time the run took to reach it, so the gap of the score can be reported.
+ *
+ */
+
+public class RUN_RESULT {
+
+	String algorithm;
+	double eas_score;
+	int score;
+	int[] best_workflow;
+	double wall_time;
+	long evaluations;
+	boolean timed_out;
+	boolean reached_target;
+	long cache_lookups;
+	long cache_hits;
+	int best_known;
+	double time_to_target;
+
+	/* Purpose: Initialize an empty RUN_RESULT object
+	 * Parameters: The algorithm that is run
+	 * Return: N/A
+	 */
+	public RUN_RESULT(String algorithm) {
+
+		this.algorithm = algorithm;
+		this.eas_score = Double.NaN;
+		this.score = Integer.MAX_VALUE;
+		this.evaluations = 0;
+		this.best_known = BEST_KNOWN.UNKNOWN;
+		this.time_to_target = Double.NaN;
+	}
+
+	/* Purpose: Add to the number of complete workflow evaluations
+	 * Parameters: The number of evaluations to add
+	 * Return: None
+	 */
+	public void addEvaluations(long evaluations) {
+		this.evaluations += evaluations;
+	}
+
+	/* Purpose: Add to the lookups and hits of the score cache
+	 * Parameters: The number of lookups and of hits to add
+	 * Return: None
+	 */
+	public void addCache(long cache_lookups, long cache_hits) {
+		this.cache_lookups += cache_lookups;
+		this.cache_hits += cache_hits;
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public double getEas_score() {
+		return eas_score;
+	}
+
+	public void setEas_score(double eas_score) {
+		this.eas_score = eas_score;
+	}
+
+	public int getScore() {
+		return score;
+	}
+
+	public void setScore(int score) {
+		this.score = score;
+	}
+
+	public int[] getBest_workflow() {
+		return best_workflow;
+	}
+
+	public void setBest_workflow(int[] best_workflow) {
+		this.best_workflow = best_workflow.clone();
+	}
+
+	public double getWall_time() {
+		return wall_time;
+	}
+
+	public void setWall_time(double wall_time) {
+		this.wall_time = wall_time;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getCache_lookups() {
+		return cache_lookups;
+	}
+
+	public long getCache_hits() {
+		return cache_hits;
+	}
+
+	public double getCache_hit_rate() {
+		return (cache_lookups == 0) ? 0.0 : (double) cache_hits / cache_lookups;
+	}
+
+	public int getBest_known() {
+		return best_known;
+	}
+
+	public void setBest_known(int best_known) {
+		this.best_known = best_known;
+	}
+
+	public double getGap() {
+		return BEST_KNOWN.gap(score, best_known);
+	}
+
+	public double getTime_to_target() {
+		return time_to_target;
+	}
+
+	public void setTime_to_target(double time_to_target) {
+		this.time_to_target = time_to_target;
+	}
+
+	public boolean isTimed_out() {
+		return timed_out;
+	}
+
+	public void setTimed_out(boolean timed_out) {
+		this.timed_out = timed_out;
+	}
+
+	public boolean isReached_target() {
+		return reached_target;
+	}
+
+	public void setReached_target(boolean reached_target) {
+		this.reached_target = reached_target;
+	}
+
+}
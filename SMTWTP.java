@@ -4,10 +4,22 @@
  * 
  * This class defines a SMTWTP object. The object contains all of the necessary 
  * information for a SMTWTP problem including the number of jobs, arrays for the
- * processing times, due dates, and weights of the jobs, and 2d arrays for the 
- * pheromone matrix and numerator values for EAS stochastic equation.
+ * processing times, due dates, and weights of the jobs, and triangular matrices for
+ * the pheromone matrix and numerator values for EAS stochastic equation.
  * 
- * This file parses a given SMTWTP problem.
+ * The processing time, due date, and weight of each job are also packed into a
+ * single interleaved integer array (job_data), so that the scoring kernel shared by
+ * ANT and INDIVIDUAL reads each job from one contiguous block of memory instead of
+ * following a reference to a JOB object.
+ * 
+ * Evaporation is lazy: the stored pheromone levels are all multiplied by a single
+ * pheromone_scale, so evaporating every path only shrinks the scale and deposits are
+ * divided by it. When the scale gets small enough to risk underflow, or small enough
+ * that the stored levels raised to alpha could overflow, it is folded back into the
+ * stored levels.
+ * 
+ * This file parses a given SMTWTP problem. Files from the OR-Library, which hold many
+ * problems each, are read by ORLIB_READER instead.
  * 
  */
 
@@ -23,16 +35,39 @@ public class SMTWTP {
 	int[] due_dates;
 	int[] weights;
 	
-	double[][] smtwtp_pheromone;
-	double[][] smtwtp_value;
+	// only the lower triangle is used, so it is stored packed
+	TRIANGULAR_MATRIX smtwtp_pheromone;
+	TRIANGULAR_MATRIX smtwtp_value;
+	
+	// the pheromone level of a path is its stored level times this scale
+	double pheromone_scale = 1.0;
 	
 	JOB[] jobs;
 	
+	// (processing time, due date, weight) of each job, job j starts at j * JOB_STRIDE
+	int[] job_data;
+	
 	public static final int PROCESSING_TIME = 0;
 	public static final int DUE_DATE = 1;
 	public static final int WEIGHT = 2;
 	public static final int DONE = 3;
 	
+	public static final int JOB_STRIDE = 3;
+	
+	// largest whole exponent computed by repeated multiplication instead of Math.pow
+	public static final int MAX_MULTIPLIED_EXPONENT = 8;
+	
+	// the pheromone scale is folded into the stored levels once it drops below this,
+	// or once the stored levels raised to alpha could grow by more than
+	// MAX_VALUE_GROWTH, since the values are computed from the unscaled levels
+	public static final double MIN_PHEROMONE_SCALE = 1e-20;
+	public static final double MAX_VALUE_GROWTH = 1e100;
+	
+	// heuristic^beta for each job, and the beta it was computed for. The exponent
+	// is written before the array, so a thread that reads the array also sees it
+	volatile double[] heuristic_beta;
+	double heuristic_exponent;
+	
 	public SMTWTP(String filename) {
 		
 		File smtwtpFile = new File(filename);
@@ -82,20 +117,146 @@ public class SMTWTP {
 			
 			sc.close();
 			
-			jobs = new JOB[num_jobs];
+			initializeJobs();
 			
-			for (int i = 0; i < num_jobs; i++) {
-				jobs[i] = new JOB(i, processing_times[i], due_dates[i], weights[i]);
-			}
+		} catch (FileNotFoundException e) {
+			System.out.println("File not found, please verify input and try again");
+		}
+		
+	}
+	
+	/* Purpose: Create a SMTWTP problem from arrays of job data, such as an instance
+	 * read from an OR-Library file by ORLIB_READER
+	 * Parameters: The processing time, due date, and weight arrays
+	 * Return: N/A
+	 */
+	public SMTWTP(int[] processing_times, int[] due_dates, int[] weights) {
+		
+		this.num_jobs = processing_times.length;
+		this.processing_times = processing_times.clone();
+		this.due_dates = due_dates.clone();
+		this.weights = weights.clone();
+		
+		initializeJobs();
+	}
+	
+	/* Purpose: Build the JOB objects, the packed job array, and the empty
+	 * pheromone and value matrices once the job arrays are read
+	 * Parameters: None
+	 * Return: None
+	 */
+	private void initializeJobs() {
+		
+		jobs = new JOB[num_jobs];
+		
+		for (int i = 0; i < num_jobs; i++) {
+			jobs[i] = new JOB(i, processing_times[i], due_dates[i], weights[i]);
+		}
+		
+		job_data = packJobs(processing_times, due_dates, weights);
+		
+		this.smtwtp_pheromone = new TRIANGULAR_MATRIX(num_jobs);
+		this.smtwtp_value = new TRIANGULAR_MATRIX(num_jobs);
+	}
+	
+	/* Purpose: Create a copy of a SMTWTP problem with its own pheromone and value
+	 * matrices. The job arrays are never modified while solving, so they are shared
+	 * with the original, which lets independent EAS runs execute at the same time.
+	 * Parameters: The SMTWTP problem to copy
+	 * Return: N/A
+	 */
+	public SMTWTP(SMTWTP problem) {
+		
+		this.num_jobs = problem.num_jobs;
+		this.processing_times = problem.processing_times;
+		this.due_dates = problem.due_dates;
+		this.weights = problem.weights;
+		this.jobs = problem.jobs;
+		this.job_data = problem.job_data;
+		
+		// the heuristic array is replaced rather than modified, so it can be shared too
+		double[] shared = problem.heuristic_beta;
+		this.heuristic_exponent = problem.heuristic_exponent;
+		this.heuristic_beta = shared;
+		
+		this.smtwtp_pheromone = new TRIANGULAR_MATRIX(num_jobs);
+		this.smtwtp_value = new TRIANGULAR_MATRIX(num_jobs);
+	}
+	
+	/* Purpose: Interleave the processing times, due dates, and weights of the jobs
+	 * into a single array of JOB_STRIDE integers per job
+	 * Parameters: The processing time, due date, and weight arrays
+	 * Return: The packed job array
+	 */
+	public static int[] packJobs(int[] processing_times, int[] due_dates, int[] weights) {
+		
+		int[] packed = new int[processing_times.length * JOB_STRIDE];
+		
+		for (int i = 0; i < processing_times.length; i++) {
+			packed[i * JOB_STRIDE + PROCESSING_TIME] = processing_times[i];
+			packed[i * JOB_STRIDE + DUE_DATE] = due_dates[i];
+			packed[i * JOB_STRIDE + WEIGHT] = weights[i];
+		}
+		return packed;
+	}
+	
+	/* Purpose: Score a complete workflow, the total weighted tardiness of its jobs.
+	 * This is the shared scoring kernel for ANTs and INDIVIDUALs.
+	 * Parameters: The workflow, the number of jobs, and the packed job array
+	 * Return: The total weighted tardiness of the workflow
+	 */
+	public static int scoreWorkflow(int[] workflow, int num_jobs, int[] job_data) {
+		
+		int score = 0;
+		int time_so_far = 0;
+		int finish_difference;
+		int base;
+		
+		for (int i = 0; i < num_jobs; i++) {
 			
-			this.smtwtp_pheromone = new double[num_jobs][num_jobs];
-			this.smtwtp_value = new double[num_jobs][num_jobs];
+			base = workflow[i] * JOB_STRIDE;
 			
+			time_so_far += job_data[base + PROCESSING_TIME];
+			finish_difference = time_so_far - job_data[base + DUE_DATE];
 			
-		} catch (FileNotFoundException e) {
-			System.out.println("File not found, please verify input and try again");
+			if (finish_difference > 0) {
+				score += finish_difference * job_data[base + WEIGHT];
+			}
 		}
+		return score;
+	}
+	
+	/* Purpose: Score the positions from start to end (inclusive) of a workflow,
+	 * recording the completion time and weighted tardiness of each position
+	 * Parameters: The workflow, the first and last index of the window, the
+	 * completion time of the position before the window, the packed job array,
+	 * and the completion time and tardiness arrays to fill in
+	 * Return: The total weighted tardiness of the window
+	 */
+	public static int scoreWindow(int[] workflow, int start, int end, int time_so_far,
+			int[] job_data, int[] completion_times, int[] tardiness) {
 		
+		int score = 0;
+		int finish_difference;
+		int base;
+		
+		for (int i = start; i <= end; i++) {
+			
+			base = workflow[i] * JOB_STRIDE;
+			
+			time_so_far += job_data[base + PROCESSING_TIME];
+			finish_difference = time_so_far - job_data[base + DUE_DATE];
+			
+			completion_times[i] = time_so_far;
+			
+			if (finish_difference > 0) {
+				tardiness[i] = finish_difference * job_data[base + WEIGHT];
+				score += tardiness[i];
+			} else {
+				tardiness[i] = 0;
+			}
+		}
+		return score;
 	}
 	
 	/* Purpose: Initialize the pheromone array to base tau
@@ -104,11 +265,29 @@ public class SMTWTP {
 	 */
 	public void initializePheromone(double base_tau) {
 		
-		for(int i = 0; i < num_jobs; i++) {
-			for(int j = 0; j < i; j++) {
-				smtwtp_pheromone[i][j] = base_tau;
-			}
-		}
+		smtwtp_pheromone.fill(base_tau);
+		pheromone_scale = 1.0;
+	}
+	
+	/* Purpose: Get the pheromone level on a certain path
+	 * Parameters: An integer value of job 1 and an integer value
+	 * of job 2, in either order
+	 * Return: The pheromone level of the path
+	 */
+	public double getPheromone(int i, int j) {
+		
+		return smtwtp_pheromone.get(i, j) * pheromone_scale;
+	}
+	
+	/* Purpose: Get the numerator of the probability of selecting
+	 * a certain path, up to a factor common to every path
+	 * Parameters: An integer value of job 1 and an integer value
+	 * of job 2, in either order
+	 * Return: The numerator value of the path
+	 */
+	public double getValue(int i, int j) {
+		
+		return smtwtp_value.get(i, j);
 	}
 	
 	/* Purpose: Increase the pheromone level on a certain path
@@ -118,40 +297,117 @@ public class SMTWTP {
 	 */
 	public void increasePheromone(int i, int j, double pheromone) {
 		
-		smtwtp_pheromone[i][j] += pheromone;
+		smtwtp_pheromone.add(i, j, pheromone / pheromone_scale);
 	}
 	
-	/* Purpose: Evaporate the pheromone level on a certain path
-	 * Parameters: An integer value of job 1, an integer value
-	 * of job 2, and a double value of the evaporation factor
+	/* Purpose: Evaporate the pheromone level on every path by shrinking the
+	 * pheromone scale, only touching the stored levels when the scale is
+	 * folded back into them
+	 * Parameters: A double value of the evaporation factor
+	 * Return: None
+	 */
+	public void evaporatePheromone(double rho) {
+		
+		pheromone_scale *= 1.0 - rho;
+		
+		if (pheromone_scale < MIN_PHEROMONE_SCALE) {
+			foldPheromone();
+		}
+	}
+	
+	/* Purpose: Multiply the stored pheromone levels by the pheromone scale, which
+	 * is then reset to 1
+	 * Parameters: None
 	 * Return: None
 	 */
-	public void evaporatePheromone(int i, int j, double rho) {
+	public void foldPheromone() {
 		
-		smtwtp_pheromone[i][j] *= 1.0 - rho;
+		smtwtp_pheromone.scale(pheromone_scale);
+		pheromone_scale = 1.0;
 	}
 	
 	/* Purpose: Calculate the numerator of the probability of
-	 * selecting a given path based on its pheromone levels
+	 * selecting a given path based on its pheromone levels. The
+	 * stored levels are used without the pheromone scale, which
+	 * multiplies every numerator by the same factor and so cancels
+	 * out of the probabilities. The scale is folded in first if the
+	 * stored levels raised to alpha could overflow.
 	 * Parameters: An double value of alpha and a double value
 	 * of beta
 	 * Return: None
 	 */
 	public void calculateValue(double alpha, double beta) {
-		double heuristic, pheromone;
 		
+		if (Math.pow(pheromone_scale, -alpha) > MAX_VALUE_GROWTH) {
+			foldPheromone();
+		}
+		
+		double[] heuristic = getHeuristic_beta(beta);
+		double[] pheromone = smtwtp_pheromone.getCells();
+		double[] value = smtwtp_value.getCells();
+		int k = 0;
+		
+		//the cells of row i are (i, 0) to (i, i-1), one after another
 		for(int i = 0; i < num_jobs; i++) {
-			for(int j = 0; j < i; j++) {
-				pheromone = smtwtp_pheromone[i][j];
-				if (due_dates[i] == 0) {
-					heuristic = 1;
-				} else {
-					heuristic = 1 / (double) due_dates[i];
-				}
-				smtwtp_value[i][j] = Math.pow(pheromone, alpha) * Math.pow(heuristic, beta);
+			for(int j = 0; j < i; j++, k++) {
+				value[k] = power(pheromone[k], alpha) * heuristic[i];
 			}
 		}
 	}
+	
+	/* Purpose: Get heuristic^beta for each job, where the heuristic is the inverse
+	 * of the due date. The heuristic never changes, so the array is only computed
+	 * again if it is asked for with a different beta.
+	 * Parameters: A double value of beta
+	 * Return: An array of heuristic^beta, indexed by job
+	 */
+	public double[] getHeuristic_beta(double beta) {
+		
+		double[] cached = heuristic_beta;
+		
+		if (cached != null && heuristic_exponent == beta) {
+			return cached;
+		}
+		
+		double heuristic;
+		cached = new double[num_jobs];
+		
+		for(int i = 0; i < num_jobs; i++) {
+			if (due_dates[i] == 0) {
+				heuristic = 1;
+			} else {
+				heuristic = 1 / (double) due_dates[i];
+			}
+			cached[i] = Math.pow(heuristic, beta);
+		}
+		
+		this.heuristic_exponent = beta;
+		this.heuristic_beta = cached;
+		return cached;
+	}
+	
+	/* Purpose: Raise a value to a power, skipping Math.pow for small whole
+	 * exponents such as the usual alpha of 1
+	 * Parameters: A double base and a double exponent
+	 * Return: The base raised to the exponent
+	 */
+	public static double power(double base, double exponent) {
+		
+		if (exponent == 1.0) {
+			return base;
+		}
+		if (exponent == 2.0) {
+			return base * base;
+		}
+		if (exponent >= 0.0 && exponent <= MAX_MULTIPLIED_EXPONENT && exponent == (int) exponent) {
+			double result = 1.0;
+			for (int i = 0; i < (int) exponent; i++) {
+				result *= base;
+			}
+			return result;
+		}
+		return Math.pow(base, exponent);
+	}
 
 	public int getNum_jobs() {
 		return num_jobs;
@@ -177,6 +433,14 @@ public class SMTWTP {
 		this.due_dates = due_dates.clone();
 	}
 
+	public int[] getWeights() {
+		return weights;
+	}
+
+	public int[] getJob_data() {
+		return job_data;
+	}
+
 	public JOB[] getJobs() {
 		return jobs;
 	}
@@ -185,20 +449,29 @@ public class SMTWTP {
 		this.jobs = jobs.clone();
 	}
 
-	public double[][] getSmtwtp_pheromone() {
+	public TRIANGULAR_MATRIX getSmtwtp_pheromone() {
 		return smtwtp_pheromone;
 	}
 
-	public void setSmtwtp_pheromone(double[][] smttp_pheromone) {
-		this.smtwtp_pheromone = smttp_pheromone.clone();
+	public void setSmtwtp_pheromone(TRIANGULAR_MATRIX smttp_pheromone) {
+		this.smtwtp_pheromone = new TRIANGULAR_MATRIX(smttp_pheromone);
+		this.pheromone_scale = 1.0;
+	}
+
+	public double getPheromone_scale() {
+		return pheromone_scale;
+	}
+
+	public void setPheromone_scale(double pheromone_scale) {
+		this.pheromone_scale = pheromone_scale;
 	}
 
-	public double[][] getSmtwtp_value() {
+	public TRIANGULAR_MATRIX getSmtwtp_value() {
 		return smtwtp_value;
 	}
 
-	public void setSmtwtp_value(double[][] smttp_value) {
-		this.smtwtp_value = smttp_value.clone();
+	public void setSmtwtp_value(TRIANGULAR_MATRIX smttp_value) {
+		this.smtwtp_value = new TRIANGULAR_MATRIX(smttp_value);
 	}
 	
 
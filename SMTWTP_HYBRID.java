@@ -1,5 +1,15 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /*
  * Author Luca Osterag-Hill, Tom Lucy, Jake Rourke
@@ -8,6 +18,9 @@ import java.util.Collections;
  * This class is the main class for the HYBRID project. Given the user inputs,
  * the class calls either GA, EAS, or the hybrid, which do the iterative building.
  * 
+ * The independent EAS runs that seed the GA each solve their own copy of the problem,
+ * so they do not share pheromone and are run on a pool of worker threads.
+ * 
  */
 
 public class SMTWTP_HYBRID {
@@ -33,8 +46,88 @@ public class SMTWTP_HYBRID {
 	public static double mutation_prob = 0.6;
 	public static double crossover_prob = 0.9;
 	
+	//number of threads used to run the independent EAS runs and to breed each
+	//generation of the GA
+	public static int num_threads = 1;
+	public static String THREADS_OPTION = "--threads";
+	
+	//number of threads each EAS run constructs the ant tours of an iteration on,
+	//for runs too long to wait for on one thread even with the runs in parallel
+	public static int construct_threads = 1;
+	public static String CONSTRUCT_THREADS_OPTION = "--construct-threads";
+	
+	//island model GA: number of islands, generations between migrations, workflows
+	//sent per migration, and topology ("ring" or "full"), one island runs a plain GA
+	public static int num_islands = 1;
+	public static int migration_interval = 10;
+	public static int num_migrants = 2;
+	public static String topology = ISLAND_GA.RING;
+	public static String ISLANDS_OPTION = "--islands";
+	public static String MIGRATION_OPTION = "--migration";
+	public static String TOPOLOGY_OPTION = "--topology";
+	
+	//whether the file is an OR-Library file holding many problems
+	public static boolean orlib = false;
+	public static String ORLIB_OPTION = "--orlib";
+	
+	//how the ants draw the next job ("linear", "tree", or "candidates")
+	public static String sampling = EAS.LINEAR_SAMPLING;
+	public static String SAMPLING_OPTION = "--sampling";
+	
+	//local search applied to every ant tour and GA offspring ("swap", "insertion",
+	//or "dynasearch"), none by default
+	public static String local_search = null;
+	public static String LOCAL_SEARCH_OPTION = "--local-search";
+	
+	//wall clock time limit of a run in seconds, and the score at which a run stops
+	//(such as a known optimum), none by default
+	public static double time_limit = EAS.STOP_TIME;
+	public static int target_score = STOP_CONDITION.NO_TARGET;
+	public static String TIME_LIMIT_OPTION = "--time-limit";
+	public static String TARGET_OPTION = "--target";
+	
+	//file that receives a CSV record of every EAS iteration and GA generation, and
+	//whether every PRINT_ON_ITERATION-th record is also printed while running
+	public static String telemetry_file = null;
+	public static boolean progress = false;
+	public static TELEMETRY telemetry;
+	public static String TELEMETRY_OPTION = "--telemetry";
+	public static String PROGRESS_OPTION = "--progress";
+	
+	//directory of the snapshots that let an interrupted run resume, the prefix of the
+	//snapshots of the problem being solved, and the iterations or generations between
+	//snapshots
+	public static String checkpoint_dir = null;
+	public static String checkpoint_prefix = "";
+	public static int checkpoint_interval = 10;
+	public static String CHECKPOINT_OPTION = "--checkpoint";
+	public static String CHECKPOINT_INTERVAL_OPTION = "--checkpoint-interval";
+	
+	//entries of the cache of GA offspring scores, none by default
+	public static int cache_capacity = 0;
+	public static String CACHE_OPTION = "--cache";
+	
+	//whether the GA keeps its population in flat arrays that are reused from
+	//generation to generation (FLAT_GA) instead of INDIVIDUAL objects
+	public static boolean flat_ga = false;
+	public static String FLAT_GA_OPTION = "--flat-ga";
+	
+	//seed of every random stream of the program, drawn from the clock by default
+	public static Long seed = null;
+	public static RANDOM_STREAMS random_streams;
+	public static String SEED_OPTION = "--seed";
+	
+	//file of the optimal or best known values of the instances, a run stops once it
+	//reaches the value of its instance and reports its gap, none by default
+	public static String best_known_file = null;
+	public static BEST_KNOWN best_known;
+	public static String BEST_KNOWN_OPTION = "--best-known";
+	
+	//backend that scores the EAS tours and flat GA children in batches (scalar or
+	//vector, see BATCH_SCORER), none by default
+	public static String scoring = null;
+	public static String SCORING_OPTION = "--scoring";
 	
-	public static int num_jobs;
 	
 	public static SMTWTP smtwtp;
 	
@@ -42,65 +135,335 @@ public class SMTWTP_HYBRID {
 				
 		readArguments(args);
 		
-		smtwtp = new SMTWTP(filename);
-		num_jobs = smtwtp.getNum_jobs();
-		int[][] best_eas_solutions = new int[population_size][num_jobs];
+		random_streams = (seed == null) ? RANDOM_STREAMS.unseeded() : new RANDOM_STREAMS(seed);
 		
-		//if just the ACO algorithm is selected
-		if(command.equals(ACO)) {
-			
-			EAS eas = new EAS(num_ants, num_iterations, alpha, beta, rho, elitism_factor, smtwtp);
+		if(best_known_file != null) {
+			try {
+				best_known = BEST_KNOWN.read(best_known_file);
+			} catch(IOException e) {
+				System.out.println("Could not read " + best_known_file + ": " + e.getMessage());
+				System.exit(0);
+			}
+		}
+		
+		if(checkpoint_dir != null) {
+			try {
+				Files.createDirectories(Paths.get(checkpoint_dir));
+			} catch(IOException e) {
+				System.out.println("Could not create " + checkpoint_dir + ": " + e.getMessage());
+				System.exit(0);
+			}
+		}
+		
+		if(telemetry_file != null || progress) {
+			telemetry = new TELEMETRY(TELEMETRY.DEFAULT_CAPACITY);
+			if(progress) {
+				telemetry.setProgress(EAS.PRINT_ON_ITERATION, System.err);
+			}
+		}
+		
+		//solve every instance of an OR-Library file, one line per instance
+		if(orlib) {
 			
-			for (int i = 0; i < population_size; i++) {
-				best_eas_solutions[i] = eas.runEAS();
+			try (ORLIB_READER reader = new ORLIB_READER(filename)) {
+				while(reader.hasNext()) {
+					smtwtp = reader.next();
+					System.out.print(reader.getNum_read() + "	");
+					checkpoint_prefix = checkpointPrefix(BEST_KNOWN.instance(filename, reader.getNum_read()));
+					printResult(solve(smtwtp, command, num_iterations, max_generations, num_threads,
+							random_streams.split(),
+							getBest_known(BEST_KNOWN.instance(filename, reader.getNum_read()))));
+				}
+			} catch(IOException | IllegalArgumentException e) {
+				System.out.println("Could not read " + filename + ": " + e.getMessage());
 			}
+		}
+		
+		else {
+			smtwtp = new SMTWTP(filename);
+			checkpoint_prefix = checkpointPrefix(filename);
+			printResult(solve(smtwtp, command, num_iterations, max_generations, num_threads,
+					random_streams.split(), getBest_known(filename)));
+		}
+		
+		if(telemetry_file != null) {
+			try (PrintWriter output = new PrintWriter(telemetry_file)) {
+				telemetry.writeCsv(output);
+			} catch(IOException e) {
+				System.out.println("Could not write " + telemetry_file + ": " + e.getMessage());
+			}
+		}
+	}
+	
+	/*
+	 * Purpose: Runs the selected algorithm on a problem. The run only reads the shared
+	 * 	settings of this class, so several runs may be solved at the same time. The run
+	 * 	returns its best so far once time_limit seconds have passed or target_score
+	 * 	has been reached, or else the best known value of the problem when there is one.
+	 * Parameters: the problem (SMTWTP), the algorithm (String), the number of EAS
+	 * 	iterations (int), the number of GA generations (int), the number of threads
+	 * 	for the independent EAS runs (int), the random stream of the run, which the
+	 * 	streams of its engines are split off (SplittableRandom), and the best known
+	 * 	value of the problem (int, BEST_KNOWN.UNKNOWN if there is none)
+	 * Return: the scores, best workflow, time, and evaluations of the run (RUN_RESULT)
+	 * 
+	 */
+	public static RUN_RESULT solve(SMTWTP problem, String algorithm, int iterations,
+			int generations, int threads, SplittableRandom rand, int best_known_value) {
+		
+		long start_time = System.nanoTime();
+		RUN_RESULT result = new RUN_RESULT(algorithm);
+		STOP_CONDITION stop_condition = new STOP_CONDITION(time_limit,
+				(target_score != STOP_CONDITION.NO_TARGET) ? target_score : best_known_value);
+		
+		int jobs = problem.getNum_jobs();
+		int[][] best_eas_solutions = new int[population_size][jobs];
+		
+		//if just the ACO algorithm is selected
+		if(algorithm.equals(ACO)) {
 			
-			System.out.println(eas.getBest_all_time());
+			runEAS(problem, iterations, threads, stop_condition, rand, best_eas_solutions, result);
+			
+			result.setScore((int) result.getEas_score());
 			
 		}
 		
 		//if just the GA algorithm is selected
-		else if(command.equals(GA)) {
+		else if(algorithm.equals(GA)) {
 			
 			//create a randomized workflow
 			for (int i = 0; i < population_size; i++) {
 				
-				ArrayList<Integer> a = new ArrayList<>(11);
-				for (int j = 0; j < num_jobs; j++){                           
-				    a.add(j);
-				}
-				Collections.shuffle(a);
-				
-				int[] arr = new int[num_jobs];
-				for(int j = 0; j < num_jobs; j++) {
-					arr[j] = a.get(j);
+				int[] arr = new int[jobs];
+				for(int j = 0; j < jobs; j++) {
+					arr[j] = j;
 				}
-				best_eas_solutions[i] = arr.clone();
+				RANDOM_STREAMS.shuffle(arr, rand);
+				best_eas_solutions[i] = arr;
 				
 			}
 			
-			GA genetic_algorithm = new GA(population_size, mutation_prob, max_generations, crossover_prob);
-			genetic_algorithm.RunGA(best_eas_solutions, smtwtp);
+			runGA(problem, generations, threads, stop_condition, rand, best_eas_solutions, result);
 			
 		}
 		
 		//if the hybrid algorithm is selected
-		else if(command.equals(HYBRID)) {
-			EAS eas = new EAS(num_ants, num_iterations, alpha, beta, rho, elitism_factor, smtwtp);
-			
-			for (int i = 0; i < population_size; i++) {
-				best_eas_solutions[i] = eas.runEAS();
-			}
+		else if(algorithm.equals(HYBRID)) {
 			
-			System.out.print(eas.getBest_all_time() + "	");
+			runEAS(problem, iterations, threads, stop_condition, rand, best_eas_solutions, result);
 		
 			//use workflow of the best solutions found in EAS
-			GA genetic_algorithm = new GA(population_size, mutation_prob, max_generations, crossover_prob);
-			genetic_algorithm.RunGA(best_eas_solutions, smtwtp);
+			runGA(problem, generations, threads, stop_condition, rand, best_eas_solutions, result);
+			
+		}
+		
+		else {
+			throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+		}
+		
+		result.setTimed_out(stop_condition.isTimed_out());
+		result.setReached_target(stop_condition.isReached_target());
+		result.setBest_known(best_known_value);
+		result.setTime_to_target(stop_condition.getTime_to_target());
+		result.setWall_time((System.nanoTime() - start_time) / EAS.NANO_TO_SEC);
+		return result;
+	}
+	
+	/*
+	 * Purpose: Prints the scores of a run the way each algorithm always has: the EAS
+	 * 	score, the GA score, or both separated by a tab, the hit rate of the score
+	 * 	cache when it was used, and the gap to the best known value when there is one.
+	 * Parameters: the result of the run (RUN_RESULT)
+	 * Return: none
+	 * 
+	 */
+	public static void printResult(RUN_RESULT result) {
+		
+		if(result.getAlgorithm().equals(ACO)) {
+			System.out.println(result.getEas_score());
+		}
+		else if(result.getAlgorithm().equals(GA)) {
+			System.out.println(result.getScore());
+		}
+		else {
+			System.out.println(result.getEas_score() + "	" + result.getScore());
+		}
+		
+		//the hit rate goes to standard error so the scores stay easy to parse
+		if(result.getCache_lookups() > 0) {
+			System.err.println(String.format(Locale.ROOT, "cache hit rate %.4f (%d of %d lookups)",
+					result.getCache_hit_rate(), result.getCache_hits(), result.getCache_lookups()));
+		}
+		
+		if(result.getBest_known() != BEST_KNOWN.UNKNOWN) {
+			System.err.println(String.format(Locale.ROOT, "gap %.2f%% to best known %d, time to target %.3f s",
+					result.getGap(), result.getBest_known(), result.getTime_to_target()));
+		}
+	}
+	
+	/*
+	 * Purpose: Names the snapshots of an instance after it, so the snapshots of
+	 * 	different instances in one checkpoint directory never share a path.
+	 * Parameters: the name of the instance (String)
+	 * Return: the prefix of the names of its snapshots (String)
+	 * 
+	 */
+	public static String checkpointPrefix(String instance) {
+		
+		return BEST_KNOWN.key(instance).replace(BEST_KNOWN.INSTANCE_SEPARATOR, "_") + "_";
+	}
+	
+	/*
+	 * Purpose: Finds the best known value of an instance, if a table of them was read
+	 * Parameters: the name of the instance (String)
+	 * Return: the value, or BEST_KNOWN.UNKNOWN (int)
+	 * 
+	 */
+	public static int getBest_known(String instance) {
+		
+		return (best_known == null) ? BEST_KNOWN.UNKNOWN : best_known.get(instance);
+	}
+	
+	/*
+	 * Purpose: Runs the GA on a population of workflows, as an island model when more
+	 * 	than one island is selected, or as a FLAT_GA when it is selected.
+	 * Parameters: the problem (SMTWTP), the number of generations (int), the number of
+	 * 	threads breeding each generation (int), the stop condition of the run
+	 * 	(STOP_CONDITION), the random stream the GA's stream is split off
+	 * 	(SplittableRandom), the initial workflows (int[][]), and the result to record
+	 * 	the best workflow in (RUN_RESULT)
+	 * Return: none
+	 * 
+	 */
+	public static void runGA(SMTWTP problem, int generations, int threads, STOP_CONDITION stop_condition,
+			SplittableRandom rand, int[][] workflows, RUN_RESULT result) {
+		
+		if(num_islands > 1) {
+			ISLAND_GA island_model = new ISLAND_GA(num_islands, mutation_prob, generations, crossover_prob,
+					migration_interval, num_migrants, topology);
+			island_model.setLocal_search(local_search);
+			island_model.setCache(cache_capacity);
+			island_model.setRandom(rand.split());
+			island_model.setStop_condition(stop_condition);
+			island_model.setTelemetry(telemetry);
+			island_model.RunGA(workflows, problem);
 			
+			result.setScore(island_model.getBest_score());
+			result.setBest_workflow(island_model.getBest_workflow());
+			result.addEvaluations(island_model.getNum_evaluations());
+			result.addCache(island_model.getCache_lookups(), island_model.getCache_hits());
+			return;
 		}
+		
+		if(flat_ga) {
+			FLAT_GA flat_algorithm = new FLAT_GA(population_size, mutation_prob, generations, crossover_prob);
+			flat_algorithm.setNum_threads(threads);
+			flat_algorithm.setRandom(rand.split());
+			flat_algorithm.setLocal_search(local_search);
+			flat_algorithm.setScoring(scoring);
+			flat_algorithm.setStop_condition(stop_condition);
+			if(telemetry != null) {
+				flat_algorithm.setTelemetry(telemetry, GA);
+			}
+			flat_algorithm.RunGA(workflows, problem);
+			
+			result.setScore(flat_algorithm.getBest_score());
+			result.setBest_workflow(flat_algorithm.getBest_workflow());
+			result.addEvaluations(flat_algorithm.getNum_evaluations());
+			return;
+		}
+		
+		GA genetic_algorithm = new GA(population_size, mutation_prob, generations, crossover_prob);
+		genetic_algorithm.setNum_threads(threads);
+		genetic_algorithm.setRandom(rand.split());
+		genetic_algorithm.setLocal_search(local_search);
+		genetic_algorithm.setCache(cache_capacity);
+		genetic_algorithm.setStop_condition(stop_condition);
+		if(checkpoint_dir != null) {
+			genetic_algorithm.setCheckpoint(Paths.get(checkpoint_dir, checkpoint_prefix + "ga.ckpt"),
+					checkpoint_interval, result.getAlgorithm());
+		}
+		if(telemetry != null) {
+			genetic_algorithm.setTelemetry(telemetry, GA);
+		}
+		genetic_algorithm.RunGA(workflows, problem);
+		
+		result.setScore(genetic_algorithm.getBest_score());
+		result.setBest_workflow(genetic_algorithm.getBest_workflow());
+		result.addEvaluations(genetic_algorithm.getNum_evaluations());
+		result.addCache(genetic_algorithm.getCache_lookups(), genetic_algorithm.getCache_hits());
 	}
 	
+	/*
+	 * Purpose: Runs one independent EAS for each workflow to produce, each on its
+	 * 	own copy of the problem, using a pool of worker threads.
+	 * Parameters: the problem (SMTWTP), the number of iterations (int), the number of
+	 * 	threads (int), the stop condition shared by the runs (STOP_CONDITION), the
+	 * 	random stream the stream of each run is split off in run order
+	 * 	(SplittableRandom), the array that receives the best workflow of each run
+	 * 	(int[][]), and the result to record the best score and workflow in (RUN_RESULT)
+	 * Return: the best score found by any of the runs (double)
+	 * 
+	 */
+	public static double runEAS(SMTWTP problem, int iterations, int threads, STOP_CONDITION stop_condition,
+			SplittableRandom rand, int[][] best_eas_solutions, RUN_RESULT result) {
+		
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<EAS>> runs = new ArrayList<Future<EAS>>(best_eas_solutions.length);
+		
+		//compute heuristic^beta once, the copies of the problem share it
+		problem.getHeuristic_beta(beta);
+		
+		for (int i = 0; i < best_eas_solutions.length; i++) {
+			final int run = i;
+			final SplittableRandom run_rand = rand.split();
+			runs.add(pool.submit(() -> {
+				EAS eas = new EAS(num_ants, iterations, alpha, beta, rho, elitism_factor,
+						new SMTWTP(problem));
+				eas.setNum_threads(construct_threads);
+				eas.setSampling(sampling);
+				eas.setRandom(run_rand);
+				eas.setLocal_search(local_search);
+				eas.setScoring(scoring);
+				eas.setStop_condition(stop_condition);
+				if(checkpoint_dir != null) {
+					eas.setCheckpoint(Paths.get(checkpoint_dir, checkpoint_prefix + "eas_" + run + ".ckpt"),
+							checkpoint_interval, result.getAlgorithm());
+				}
+				if(telemetry != null) {
+					eas.setTelemetry(telemetry, ACO + " " + run);
+				}
+				best_eas_solutions[run] = eas.runEAS();
+				return eas;
+			}));
+		}
+		
+		double best_all_time = Double.MAX_VALUE;
+		EAS eas;
+		
+		try {
+			//wait for the runs in order and keep the best score
+			for (Future<EAS> run : runs) {
+				eas = run.get();
+				result.addEvaluations(eas.getNum_evaluations());
+				
+				if (eas.getBest_all_time() < best_all_time) {
+					best_all_time = eas.getBest_all_time();
+					result.setBest_workflow(eas.getBest_workflow());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("EAS runs were interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("EAS run failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		
+		result.setEas_score(best_all_time);
+		return best_all_time;
+	}
 	
 	public static void readArguments(String[] args) {
 		
@@ -110,7 +473,93 @@ public class SMTWTP_HYBRID {
 				filename = args[2];
 				command = args[3];
 				
-		} catch(NullPointerException e) {
+				//optional settings follow the required arguments
+				for (int i = 4; i < args.length; i++) {
+					if (args[i].equals(THREADS_OPTION)) {
+						num_threads = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(CONSTRUCT_THREADS_OPTION)) {
+						construct_threads = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(ORLIB_OPTION)) {
+						orlib = true;
+					}
+					else if (args[i].equals(ISLANDS_OPTION)) {
+						num_islands = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(MIGRATION_OPTION)) {
+						migration_interval = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(TOPOLOGY_OPTION)) {
+						topology = args[++i];
+					}
+					else if (args[i].equals(SAMPLING_OPTION)) {
+						sampling = args[++i];
+					}
+					else if (args[i].equals(LOCAL_SEARCH_OPTION)) {
+						local_search = args[++i];
+					}
+					else if (args[i].equals(TIME_LIMIT_OPTION)) {
+						time_limit = Double.parseDouble(args[++i]);
+					}
+					else if (args[i].equals(TARGET_OPTION)) {
+						target_score = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(TELEMETRY_OPTION)) {
+						telemetry_file = args[++i];
+					}
+					else if (args[i].equals(PROGRESS_OPTION)) {
+						progress = true;
+					}
+					else if (args[i].equals(CHECKPOINT_OPTION)) {
+						checkpoint_dir = args[++i];
+					}
+					else if (args[i].equals(CHECKPOINT_INTERVAL_OPTION)) {
+						checkpoint_interval = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(CACHE_OPTION)) {
+						cache_capacity = Integer.parseInt(args[++i]);
+					}
+					else if (args[i].equals(FLAT_GA_OPTION)) {
+						flat_ga = true;
+					}
+					else if (args[i].equals(SEED_OPTION)) {
+						seed = Long.parseLong(args[++i]);
+					}
+					else if (args[i].equals(BEST_KNOWN_OPTION)) {
+						best_known_file = args[++i];
+					}
+					else if (args[i].equals(SCORING_OPTION)) {
+						scoring = args[++i];
+					}
+				}
+				
+				//islands exchange workflows every migration_interval generations
+				if(migration_interval < 1) {
+					throw new IllegalArgumentException("The migration interval must be at least 1");
+				}
+				
+				//the named variants are only looked up once the runs have started, so an
+				//unknown name is refused here instead of failing inside a worker
+				if(!List.of(EAS.LINEAR_SAMPLING, EAS.TREE_SAMPLING, EAS.CANDIDATE_SAMPLING).contains(sampling)) {
+					throw new IllegalArgumentException("Unknown sampling: " + sampling);
+				}
+				if(local_search != null && !List.of(LOCAL_SEARCH.SWAP, LOCAL_SEARCH.INSERTION,
+						LOCAL_SEARCH.DYNASEARCH).contains(local_search)) {
+					throw new IllegalArgumentException("Unknown local search: " + local_search);
+				}
+				if(scoring != null && !List.of(BATCH_SCORER.SCALAR, BATCH_SCORER.VECTOR).contains(scoring)) {
+					throw new IllegalArgumentException("Unknown scoring: " + scoring);
+				}
+				
+				//the flat GA is neither checkpointed nor cached, so a GA run asking for
+				//either would silently go without it
+				if(flat_ga && !command.equals(ACO) && (checkpoint_dir != null || cache_capacity > 0)) {
+					throw new IllegalArgumentException(FLAT_GA_OPTION + " cannot be used with "
+							+ CHECKPOINT_OPTION + " or " + CACHE_OPTION);
+				}
+				
+		} catch(NullPointerException | ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
 			System.out.println("Please verify your inputs and try again");
 			System.exit(0);
 		}
@@ -0,0 +1,106 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a STOP_CONDITION object, the wall clock time limit and the
+ * optional target score of a run. Every engine of a run shares the same
+ * STOP_CONDITION: the independent EAS runs, the GA, and the islands of an island
+ * model all stop, keeping their best so far, once the time limit has passed or once
+ * any of them has found a workflow at or below the target score.
+ *
+ * Reading the clock is cheap but not free, so the engines only check it every few
+ * ant constructions or once per generation. The EAS checks the score of every tour
+ * against the target as soon as it is built, and the time at which the target was
+ * first reached is kept as the time to target of the run. Once the condition has
+ * been met it is remembered, and later checks only read a volatile flag.
+ *
+ */
+
+public class STOP_CONDITION {
+
+	// target score of a run without one
+	public static final int NO_TARGET = -1;
+
+	long start_time;
+	long time_limit;
+	int target_score;
+
+	volatile boolean stopped;
+	volatile boolean timed_out;
+	volatile boolean reached_target;
+	volatile long target_time;
+
+	/* Purpose: Initialize a STOP_CONDITION object, starting the clock now
+	 * Parameters: The time limit in seconds and the target score (NO_TARGET for none)
+	 * Return: N/A
+	 */
+	public STOP_CONDITION(double time_limit, int target_score) {
+
+		this.start_time = System.nanoTime();
+		this.time_limit = (long) Math.min(time_limit * EAS.NANO_TO_SEC, Long.MAX_VALUE);
+		this.target_score = target_score;
+	}
+
+	/* Purpose: A condition that never stops a run
+	 * Parameters: None
+	 * Return: The STOP_CONDITION
+	 */
+	public static STOP_CONDITION never() {
+		return new STOP_CONDITION(EAS.STOP_TIME, NO_TARGET);
+	}
+
+	/* Purpose: Check the clock, stopping the run if the time limit has passed
+	 * Parameters: None
+	 * Return: Whether the run should stop
+	 */
+	public boolean checkTime() {
+
+		if (!stopped && System.nanoTime() - start_time >= time_limit) {
+			timed_out = true;
+			stopped = true;
+		}
+		return stopped;
+	}
+
+	/* Purpose: Check a score against the target, stopping the run if it is reached
+	 * Parameters: The best score so far of an engine
+	 * Return: Whether the run should stop
+	 */
+	public boolean checkScore(double score) {
+
+		if (target_score != NO_TARGET && score <= target_score && !reached_target) {
+			target_time = System.nanoTime() - start_time;
+			reached_target = true;
+			stopped = true;
+		}
+		return stopped;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	public boolean isTimed_out() {
+		return timed_out;
+	}
+
+	public boolean isReached_target() {
+		return reached_target;
+	}
+
+	public int getTarget_score() {
+		return target_score;
+	}
+
+	public double getTime_to_target() {
+		return reached_target ? target_time / EAS.NANO_TO_SEC : Double.NaN;
+	}
+
+	public double getElapsed() {
+		return (System.nanoTime() - start_time) / EAS.NANO_TO_SEC;
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a TELEMETRY object, a ring buffer of one record per EAS
+ * iteration and per GA generation. A record holds the engine that wrote it, the
+ * iteration or generation, the time since the telemetry was created, the best score
+ * so far and the mean score of the ants or population, the number of workflow
+ * evaluations so far, the diversity of the ants or population, and the time spent in
+ * each step of the iteration or generation.
+ *
+ * The diversity is the mean fraction of positions at which a workflow differs from
+ * the best workflow so far, so 0 means every workflow is the best one. The time of a
+ * GA step is summed over the chunks of the generation, so with several threads it is
+ * thread time rather than wall clock time, and its search time includes scoring the
+ * offspring.
+ *
+ * The records are kept in primitive columns that are allocated once, and the oldest
+ * records are overwritten once the buffer is full. Engines without a TELEMETRY do
+ * not time their steps or compute the diversity, so it costs nothing when disabled.
+ * Several engines may share one TELEMETRY.
+ *
+ */
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+public class TELEMETRY {
+
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+
+	public static final String CSV_HEADER = "source,step,elapsed_sec,best_score,mean_score,evaluations,diversity,"
+			+ "construct_sec,evaporate_sec,deposit_sec,value_sec,crossover_sec,mutation_sec,local_search_sec";
+
+	// steps of an iteration or generation that are timed
+	public static final int CONSTRUCT = 0;
+	public static final int EVAPORATE = 1;
+	public static final int DEPOSIT = 2;
+	public static final int VALUE = 3;
+	public static final int CROSSOVER = 4;
+	public static final int MUTATION = 5;
+	public static final int SEARCH = 6;
+	public static final int NUM_STEPS = 7;
+
+	int capacity;
+	long start_time;
+
+	// the columns of the records, record i is at index i % capacity
+	String[] sources;
+	int[] steps;
+	long[] times;
+	double[] best_scores;
+	double[] mean_scores;
+	long[] evaluations;
+	double[] diversities;
+	long[] step_nanos;
+
+	// number of records written
+	long num_records;
+
+	// print every print_interval-th step of each engine to progress, 0 for never
+	int print_interval;
+	PrintStream progress;
+
+	/* Purpose: Initialize an empty TELEMETRY object, starting its clock now
+	 * Parameters: The number of records to keep
+	 * Return: N/A
+	 */
+	public TELEMETRY(int capacity) {
+
+		this.capacity = capacity;
+		this.start_time = System.nanoTime();
+
+		this.sources = new String[capacity];
+		this.steps = new int[capacity];
+		this.times = new long[capacity];
+		this.best_scores = new double[capacity];
+		this.mean_scores = new double[capacity];
+		this.evaluations = new long[capacity];
+		this.diversities = new double[capacity];
+		this.step_nanos = new long[capacity * NUM_STEPS];
+	}
+
+	/* Purpose: Add a record, overwriting the oldest one if the buffer is full
+	 * Parameters: The engine writing it, the iteration or generation, the best score
+	 * so far, the mean score, the evaluations so far, the diversity, and the
+	 * nanoseconds spent in each step, indexed by CONSTRUCT to SEARCH
+	 * Return: None
+	 */
+	public synchronized void record(String source, int step, double best_score, double mean_score,
+			long num_evaluations, double diversity, long[] nanos) {
+
+		int slot = (int) (num_records % capacity);
+
+		sources[slot] = source;
+		steps[slot] = step;
+		times[slot] = System.nanoTime() - start_time;
+		best_scores[slot] = best_score;
+		mean_scores[slot] = mean_score;
+		evaluations[slot] = num_evaluations;
+		diversities[slot] = diversity;
+		System.arraycopy(nanos, 0, step_nanos, slot * NUM_STEPS, NUM_STEPS);
+
+		num_records++;
+
+		if (print_interval > 0 && step % print_interval == 0) {
+			progress.println(toCsv(slot));
+		}
+	}
+
+	/* Purpose: Find the fraction of positions at which a workflow differs from a
+	 * reference workflow, the engines average it to get their diversity
+	 * Parameters: The workflow and the reference workflow
+	 * Return: The fraction, from 0 to 1
+	 */
+	public static double difference(int[] workflow, int[] reference) {
+
+		int differences = 0;
+
+		for (int j = 0; j < reference.length; j++) {
+			if (workflow[j] != reference[j]) {
+				differences++;
+			}
+		}
+		return (reference.length == 0) ? 0.0 : (double) differences / reference.length;
+	}
+
+	/* Purpose: Write the kept records as CSV, oldest first
+	 * Parameters: The output
+	 * Return: None
+	 */
+	public synchronized void writeCsv(PrintWriter output) {
+
+		output.println(CSV_HEADER);
+
+		for (long record = Math.max(0, num_records - capacity); record < num_records; record++) {
+			output.println(toCsv((int) (record % capacity)));
+		}
+		output.flush();
+	}
+
+	/* Purpose: Format one record as a CSV row
+	 * Parameters: The slot of the record
+	 * Return: The CSV row
+	 */
+	public String toCsv(int slot) {
+
+		StringBuilder row = new StringBuilder();
+
+		row.append(sources[slot]).append(',');
+		row.append(steps[slot]).append(',');
+		row.append(String.format(Locale.ROOT, "%.6f", times[slot] / EAS.NANO_TO_SEC)).append(',');
+		row.append((long) best_scores[slot]).append(',');
+		row.append(String.format(Locale.ROOT, "%.1f", mean_scores[slot])).append(',');
+		row.append(evaluations[slot]).append(',');
+		row.append(String.format(Locale.ROOT, "%.4f", diversities[slot]));
+
+		for (int i = 0; i < NUM_STEPS; i++) {
+			row.append(',').append(String.format(Locale.ROOT, "%.6f", step_nanos[slot * NUM_STEPS + i] / EAS.NANO_TO_SEC));
+		}
+		return row.toString();
+	}
+
+	/*
+	 * Getters and Setters
+	 */
+
+	public long getNum_records() {
+		return num_records;
+	}
+
+	public long getNum_dropped() {
+		return Math.max(0, num_records - capacity);
+	}
+
+	public void setProgress(int print_interval, PrintStream progress) {
+		this.print_interval = print_interval;
+		this.progress = progress;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines a TRIANGULAR_MATRIX object, a symmetric matrix of doubles with
+ * an empty diagonal, used for the pheromone and value matrices of the SMTWTP. Only
+ * the cells below the diagonal are stored, row after row, in a single flat array:
+ * row i holds the i cells (i, 0) to (i, i-1) and starts at index i*(i-1)/2. The
+ * cell for a pair of jobs can be read in either order, the larger job is the row.
+ *
+ */
+
+import java.util.Arrays;
+
+public class TRIANGULAR_MATRIX {
+
+	int size;
+	double[] cells;
+
+	/* Purpose: Initialize a TRIANGULAR_MATRIX object with all cells set to 0
+	 * Parameters: The number of rows and columns
+	 * Return: N/A
+	 */
+	public TRIANGULAR_MATRIX(int size) {
+
+		this.size = size;
+		this.cells = new double[rowStart(size)];
+	}
+
+	/* Purpose: Initialize a TRIANGULAR_MATRIX object as a copy of another one
+	 * Parameters: The TRIANGULAR_MATRIX to copy
+	 * Return: N/A
+	 */
+	public TRIANGULAR_MATRIX(TRIANGULAR_MATRIX matrix) {
+
+		this.size = matrix.size;
+		this.cells = matrix.cells.clone();
+	}
+
+	/* Purpose: Find the index in the flat array of the first cell of a row
+	 * Parameters: The row
+	 * Return: The index of cell (row, 0)
+	 */
+	public static int rowStart(int row) {
+		return (int) ((long) row * (row - 1) / 2);
+	}
+
+	/* Purpose: Find the index in the flat array of the cell for two different jobs
+	 * Parameters: The two jobs, in either order
+	 * Return: The index of the cell
+	 */
+	public static int index(int i, int j) {
+
+		if (i > j) {
+			return rowStart(i) + j;
+		}
+		return rowStart(j) + i;
+	}
+
+	/* Purpose: Get the value of the cell for two different jobs
+	 * Parameters: The two jobs, in either order
+	 * Return: The value of the cell
+	 */
+	public double get(int i, int j) {
+		return cells[index(i, j)];
+	}
+
+	/* Purpose: Set the value of the cell for two different jobs
+	 * Parameters: The two jobs, in either order, and the new value
+	 * Return: None
+	 */
+	public void set(int i, int j, double value) {
+		cells[index(i, j)] = value;
+	}
+
+	/* Purpose: Add to the value of the cell for two different jobs
+	 * Parameters: The two jobs, in either order, and the amount to add
+	 * Return: None
+	 */
+	public void add(int i, int j, double amount) {
+		cells[index(i, j)] += amount;
+	}
+
+	/* Purpose: Set every cell to the same value
+	 * Parameters: The value
+	 * Return: None
+	 */
+	public void fill(double value) {
+		Arrays.fill(cells, value);
+	}
+
+	/* Purpose: Multiply every cell by the same factor
+	 * Parameters: The factor
+	 * Return: None
+	 */
+	public void scale(double factor) {
+
+		for (int k = 0; k < cells.length; k++) {
+			cells[k] *= factor;
+		}
+	}
+
+	/*
+	 * Getters
+	 */
+
+	public int getSize() {
+		return size;
+	}
+
+	public double[] getCells() {
+		return cells;
+	}
+
+}
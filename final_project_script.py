@@ -8,83 +8,39 @@ import subprocess
 # when just ga is run, we will give it 50 randomly created individuals and run it once
 # when both are run, eas will run 50 times to create 50 individuals for ga to use
 
-max_iterations = "0"
-max_generations = "0"
-
-command = "both"
-
-"""
-# eas for 300 on 40.1
-max_generations = "0"
-max_iterations = "300"
-filename = "40.1.txt"
-command = "eas"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-
-# eas for 300 on 50.1
-max_generations = "0"
-max_iterations = "300"
-filename = "50.1.txt"
-command = "eas"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-"""
-# eas for 300 on 100.3
-max_generations = "0"
-max_iterations = "300"
-filename = "100.3.txt"
-command = "eas"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-"""
-# ga for 300 on 40.1
-max_iterations = "0"
-max_generations = "300"
-filename = "40.1.txt"
-command = "ga"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-
-# ga for 300 on 50.1
-max_iterations = "0"
-max_generations = "300"
-filename = "50.1.txt"
-command = "ga"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-"""
-# ga for 300 on 100.3
-max_iterations = "0"
-max_generations = "300"
-filename = "100.3.txt"
-command = "ga"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-"""
-# both for 150 eas and 150 ga on 40.1
-max_iterations = "150"
-max_generations = "150"
-filename = "40.1.txt"
-command = "both"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-
-# both for 150 eas and 150 ga on 50.1
-max_iterations = "150"
-max_generations = "150"
-filename = "50.1.txt"
-command = "both"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-"""
-# both for 150 eas and 150 ga on 100.3
-max_iterations = "150"
-max_generations = "150"
-filename = "100.3.txt"
-command = "both"
-for i in range(10):
-	subprocess.run(['java', 'SMTWTP_HYBRID', max_iterations, max_generations, filename, command])
-
-
-
+# every run is listed in one manifest and solved by BATCH_RUNNER in a single JVM,
+# which writes one CSV row per run to output.csv
+manifest = "batch_manifest.txt"
+output = "output.csv"
+repetitions = 10
+
+# (filename, command, max_iterations, max_generations)
+runs = [
+	# eas for 300 on 40.1 and 50.1
+	# ("40.1.txt", "eas", 300, 0),
+	# ("50.1.txt", "eas", 300, 0),
+
+	# eas for 300 on 100.3
+	("100.3.txt", "eas", 300, 0),
+
+	# ga for 300 on 40.1 and 50.1
+	# ("40.1.txt", "ga", 0, 300),
+	# ("50.1.txt", "ga", 0, 300),
+
+	# ga for 300 on 100.3
+	("100.3.txt", "ga", 0, 300),
+
+	# both for 150 eas and 150 ga on 40.1 and 50.1
+	# ("40.1.txt", "both", 150, 150),
+	# ("50.1.txt", "both", 150, 150),
+
+	# both for 150 eas and 150 ga on 100.3
+	("100.3.txt", "both", 150, 150),
+]
+
+with open(manifest, "w") as f:
+	f.write("# instance algorithm repetitions num_iterations max_generations\n")
+	for filename, command, max_iterations, max_generations in runs:
+		f.write("%s %s %d %d %d\n" % (filename, command, repetitions, max_iterations, max_generations))
+
+subprocess.run(['java', 'BATCH_RUNNER', manifest, output])
@@ -0,0 +1,120 @@
+/*
+ * Date: 10/17/2026
+ *
+ * This class defines the vector backend of BATCH_SCORER. It scores as many rows at
+ * once as a register holds longs, one row per lane. The processing time, due date,
+ * and weight of the job at every position of the rows are first copied into
+ * position-major scratch arrays, so that the values of the lanes at one position are
+ * next to each other. Then for each position the processing times are added to the
+ * completion times of the lanes, and max(0, C - d) * w is added to their totals.
+ * The completion times and totals are longs, and the rows left over after the last
+ * full register are scored by the scalar kernel.
+ *
+ * The copy does not use the gather and scatter operations of the Vector API, which
+ * are not compiled to vector instructions by the JDK 17 incubator module.
+ *
+ * It needs the jdk.incubator.vector module, so it is compiled and run separately
+ * from the other classes (see BATCH_SCORER):
+ * 	javac --add-modules jdk.incubator.vector -cp . -d . vector/VECTOR_SCORER.java
+ *
+ */
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VECTOR_SCORER extends BATCH_SCORER {
+
+	static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+	int num_lanes;
+	// the job data at every position of the rows of a register, position-major, and
+	// the completion time and weighted tardiness computed for them
+	long[] processing_times;
+	long[] due_dates;
+	long[] weights;
+	long[] lane_completion_times;
+	long[] lane_tardiness;
+
+	/* Purpose: Initialize a VECTOR_SCORER object for a problem
+	 * Parameters: The SMTWTP problem
+	 * Return: N/A
+	 */
+	public VECTOR_SCORER(SMTWTP smtwtp) {
+
+		super(smtwtp);
+
+		this.num_lanes = LONG_SPECIES.length();
+		this.processing_times = new long[num_jobs * num_lanes];
+		this.due_dates = new long[num_jobs * num_lanes];
+		this.weights = new long[num_jobs * num_lanes];
+		this.lane_completion_times = new long[num_jobs * num_lanes];
+		this.lane_tardiness = new long[num_jobs * num_lanes];
+	}
+
+	/* Purpose: Score rows of a flat array of workflows, a register of rows at a time
+	 * Parameters: The workflows, the completion time and tardiness arrays laid out
+	 * like the workflows (both null to skip them), the rows to score and the number
+	 * of them, and the array that receives the score of each row in the same order
+	 * Return: None
+	 */
+	@Override
+	public void scoreRows(int[] workflows, int[] completion_times, int[] tardiness, int[] rows, int num_rows,
+			long[] scores) {
+
+		int k = 0;
+
+		for (; k + num_lanes <= num_rows; k += num_lanes) {
+
+			// copy the job data of the rows, position-major
+			for (int lane = 0; lane < num_lanes; lane++) {
+				int start = rows[k + lane] * num_jobs;
+				for (int i = 0; i < num_jobs; i++) {
+					int base = workflows[start + i] * SMTWTP.JOB_STRIDE;
+					processing_times[i * num_lanes + lane] = job_values[base + SMTWTP.PROCESSING_TIME];
+					due_dates[i * num_lanes + lane] = job_values[base + SMTWTP.DUE_DATE];
+					weights[i * num_lanes + lane] = job_values[base + SMTWTP.WEIGHT];
+				}
+			}
+
+			LongVector time_so_far = LongVector.zero(LONG_SPECIES);
+			LongVector total = LongVector.zero(LONG_SPECIES);
+
+			for (int i = 0, offset = 0; i < num_jobs; i++, offset += num_lanes) {
+
+				time_so_far = time_so_far.add(LongVector.fromArray(LONG_SPECIES, processing_times, offset));
+				LongVector late = time_so_far.sub(LongVector.fromArray(LONG_SPECIES, due_dates, offset)).max(0L)
+						.mul(LongVector.fromArray(LONG_SPECIES, weights, offset));
+				total = total.add(late);
+
+				if (completion_times != null) {
+					time_so_far.intoArray(lane_completion_times, offset);
+					late.intoArray(lane_tardiness, offset);
+				}
+			}
+
+			total.intoArray(scores, k);
+
+			// copy the completion times back to the rows
+			if (completion_times != null) {
+				for (int lane = 0; lane < num_lanes; lane++) {
+					int start = rows[k + lane] * num_jobs;
+					for (int i = 0; i < num_jobs; i++) {
+						completion_times[start + i] = (int) lane_completion_times[i * num_lanes + lane];
+						tardiness[start + i] = (int) lane_tardiness[i * num_lanes + lane];
+					}
+				}
+			}
+		}
+
+		// the rows that do not fill a register
+		for (; k < num_rows; k++) {
+			scores[k] = scoreRow(workflows, completion_times, tardiness, rows[k]);
+		}
+	}
+
+	@Override
+	public String getBackend() {
+		return VECTOR;
+	}
+
+}